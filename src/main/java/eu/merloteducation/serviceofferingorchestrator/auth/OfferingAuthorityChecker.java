@@ -18,14 +18,17 @@ package eu.merloteducation.serviceofferingorchestrator.auth;
 
 import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.gx.serviceofferings.GxServiceOfferingCredentialSubject;
 import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingDto;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.OfferingSubmissionJob;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingExtension;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingState;
-import eu.merloteducation.serviceofferingorchestrator.repositories.ServiceOfferingExtensionRepository;
+import eu.merloteducation.serviceofferingorchestrator.repositories.OfferingSubmissionJobRepository;
+import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingExtensionLookup;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 import eu.merloteducation.authorizationlibrary.authorization.AuthorityChecker;
 
+import java.util.List;
 import java.util.Set;
 
 @Component("offeringAuthorityChecker")
@@ -33,12 +36,16 @@ public class OfferingAuthorityChecker {
 
     private final AuthorityChecker authorityChecker;
 
-    private final ServiceOfferingExtensionRepository serviceOfferingExtensionRepository;
+    private final ServiceOfferingExtensionLookup serviceOfferingExtensionLookup;
+
+    private final OfferingSubmissionJobRepository offeringSubmissionJobRepository;
 
     public OfferingAuthorityChecker(@Autowired AuthorityChecker authorityChecker,
-                                    @Autowired ServiceOfferingExtensionRepository serviceOfferingExtensionRepository) {
+                                    @Autowired ServiceOfferingExtensionLookup serviceOfferingExtensionLookup,
+                                    @Autowired OfferingSubmissionJobRepository offeringSubmissionJobRepository) {
         this.authorityChecker = authorityChecker;
-        this.serviceOfferingExtensionRepository = serviceOfferingExtensionRepository;
+        this.serviceOfferingExtensionLookup = serviceOfferingExtensionLookup;
+        this.offeringSubmissionJobRepository = offeringSubmissionJobRepository;
     }
 
     /**
@@ -50,7 +57,7 @@ public class OfferingAuthorityChecker {
      * @return can access the requested offering
      */
     public boolean canAccessOffering(Authentication authentication, String offeringId) {
-        ServiceOfferingExtension extension = serviceOfferingExtensionRepository.findById(offeringId).orElse(null);
+        ServiceOfferingExtension extension = serviceOfferingExtensionLookup.findById(offeringId).orElse(null);
         return isOfferingPublic(extension) || isOfferingIssuer(authentication, extension);
     }
 
@@ -80,7 +87,7 @@ public class OfferingAuthorityChecker {
      */
     public boolean isOfferingIssuer(Authentication authentication, String offeringId) {
         return isOfferingIssuer(authentication,
-                serviceOfferingExtensionRepository.findById(offeringId).orElse(null));
+                serviceOfferingExtensionLookup.findById(offeringId).orElse(null));
     }
 
     public boolean representsProviderParticipant(Authentication authentication, ServiceOfferingDto dto) {
@@ -89,4 +96,32 @@ public class OfferingAuthorityChecker {
                 dto.getSelfDescription().findFirstCredentialSubjectByType(GxServiceOfferingCredentialSubject.class);
         return representedOrgaIds.contains(cs.getProvidedBy().getId());
     }
+
+    /**
+     * Given the current authentication and a list of offerings, check whether all of them are provided by one
+     * of the represented roles.
+     *
+     * @param authentication current authentication
+     * @param dtos           offerings to check
+     * @return all offerings are provided by represented roles
+     */
+    public boolean representsProviderParticipants(Authentication authentication, List<ServiceOfferingDto> dtos) {
+        return dtos.stream().allMatch(dto -> representsProviderParticipant(authentication, dto));
+    }
+
+    /**
+     * Given the current authentication and the id of a submission job, check whether the job was submitted for
+     * one of the represented roles.
+     *
+     * @param authentication current authentication
+     * @param jobId          id of the job to request
+     * @return job was submitted for represented role
+     */
+    public boolean isJobIssuer(Authentication authentication, String jobId) {
+        OfferingSubmissionJob job = offeringSubmissionJobRepository.findById(jobId).orElse(null);
+        if (job != null) {
+            return authorityChecker.getRepresentedOrgaIds(authentication).contains(job.getIssuer());
+        }
+        return false;
+    }
 }
@@ -17,13 +17,25 @@
 package eu.merloteducation.serviceofferingorchestrator.config;
 
 import eu.merloteducation.serviceofferingorchestrator.service.OrganizationOrchestratorClient;
+import eu.merloteducation.serviceofferingorchestrator.service.RemoteServiceGuard;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.support.WebClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableScheduling
@@ -31,10 +43,52 @@ public class AppConfig {
     @Value("${organizations-orchestrator.base-uri}")
     private String organizationsOrchestratorBaseUri;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Bean
+    public ConnectionProvider remoteServiceConnectionProvider(
+            @Value("${http-client.max-connections}") int maxConnections,
+            @Value("${http-client.pending-acquire-max-count}") int pendingAcquireMaxCount,
+            @Value("${http-client.pending-acquire-timeout}") Duration pendingAcquireTimeout,
+            @Value("${http-client.max-idle-time}") Duration maxIdleTime,
+            @Value("${http-client.evict-interval}") Duration evictInterval) {
+        // shared pool for calls to other services, exported as reactor.netty.connection.provider metrics
+        return ConnectionProvider.builder("remote-services")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(evictInterval)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpConnector remoteServiceClientHttpConnector(
+            ConnectionProvider remoteServiceConnectionProvider,
+            @Value("${http-client.connect-timeout}") Duration connectTimeout,
+            @Value("${http-client.read-timeout}") Duration readTimeout,
+            @Value("${http-client.http2-enabled}") boolean http2Enabled) {
+        // HTTP/2 is negotiated for https endpoints only, plain http endpoints keep using HTTP/1.1
+        HttpClient httpClient = HttpClient.create(remoteServiceConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout)
+                .compress(true)
+                .protocol(http2Enabled
+                        ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11});
+        return new ReactorClientHttpConnector(httpClient);
+    }
+
     @Bean
-    public OrganizationOrchestratorClient organizationOrchestratorClient() {
-        WebClient webClient = WebClient.builder()
+    public OrganizationOrchestratorClient organizationOrchestratorClient(WebClient.Builder webClientBuilder,
+                                                                         RemoteServiceGuard remoteServiceGuard) {
+        // the builder provided by Spring Boot uses the client http connector above,
+        // cached organizations are served without passing the circuit breaker
+        WebClient webClient = webClientBuilder
                 .baseUrl(organizationsOrchestratorBaseUri)
+                .filter(remoteServiceGuard.exchangeFilter(RemoteServiceGuard.ORGANIZATIONS_ORCHESTRATOR))
                 .build();
         HttpServiceProxyFactory httpServiceProxyFactory = HttpServiceProxyFactory
                 .builder()
@@ -42,4 +96,48 @@ public class AppConfig {
                 .build();
         return httpServiceProxyFactory.createClient(OrganizationOrchestratorClient.class);
     }
+
+    @Bean
+    public ThreadPoolTaskExecutor remoteCallExecutor(@Value("${remote-call-executor.pool-size}") int poolSize,
+                                                     @Value("${remote-call-executor.queue-capacity}") int queueCapacity) {
+        // bounded pool for fanning out blocking calls to other services
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("remote-call-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setVirtualThreads(virtualThreadsEnabled);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor offeringSubmissionExecutor(
+            @Value("${offering-submission.concurrency}") int concurrency,
+            @Value("${offering-submission.queue-capacity}") int queueCapacity) {
+        // bounded pool for signing and submitting offerings to the catalog, a full queue makes the caller wait
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("offering-submission-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setVirtualThreads(virtualThreadsEnabled);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor offeringJobExecutor(@Value("${offering-jobs.concurrency}") int concurrency,
+                                                      @Value("${offering-jobs.queue-capacity}") int queueCapacity) {
+        // bounded pool for asynchronous submissions, a full queue rejects further submissions
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("offering-job-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setVirtualThreads(virtualThreadsEnabled);
+        return executor;
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import eu.merloteducation.serviceofferingorchestrator.models.events.OrganizationChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+@RemoteApplicationEventScan(basePackageClasses = OrganizationChangedEvent.class)
+public class CacheConfig {
+
+    public static final String PARTICIPANT_CACHE = "participants";
+
+    public static final String SIGNER_LEGAL_NAME_CACHE = "signerLegalNames";
+
+    @Value("${cache.participants.spec}")
+    private String participantCacheSpec;
+
+    @Value("${cache.signer-legal-names.spec}")
+    private String signerLegalNameCacheSpec;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // register all caches upfront so that their statistics are exposed as metrics
+        cacheManager.registerCustomCache(PARTICIPANT_CACHE, Caffeine.from(participantCacheSpec).build());
+        // unknown signers are cached as null values as well, so that they are not queried on every request
+        cacheManager.registerCustomCache(SIGNER_LEGAL_NAME_CACHE, Caffeine.from(signerLegalNameCacheSpec).build());
+        return cacheManager;
+    }
+}
@@ -16,15 +16,27 @@
 
 package eu.merloteducation.serviceofferingorchestrator.config;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 @Configuration
+@Slf4j
 public class MessageQueueConfig {
 
     public static final String ORCHESTRATOR_EXCHANGE = "orchestrator.exchange";
@@ -36,6 +48,8 @@ public class MessageQueueConfig {
     public static final String CONTRACT_PURGED_QUEUE = "serviceoffering.purge.contract.queue";
     public static final String OFFERING_REQUEST_QUEUE = "serviceoffering.details.request.queue";
     public static final String ORGANIZATION_REVOKED_QUEUE = "serviceoffering.revoke.organization.queue";
+    public static final String CONTRACT_DEAD_LETTER_QUEUE = "serviceoffering.contract.dead-letter.queue";
+    public static final String CONTRACT_BATCH_LISTENER_FACTORY = "contractBatchListenerContainerFactory";
     @Bean
     DirectExchange orchestratorExchange() {
         return new DirectExchange(ORCHESTRATOR_EXCHANGE);
@@ -81,6 +95,51 @@ public class MessageQueueConfig {
         return new Queue(ORGANIZATION_REVOKED_QUEUE, false);
     }
 
+    @Bean
+    public Queue contractDeadLetterQueue() {
+        // durable, as the contract events in here have to be replayed manually
+        return new Queue(CONTRACT_DEAD_LETTER_QUEUE, true);
+    }
+
+    @Bean
+    public RetryOperationsInterceptor contractEventsRetryInterceptor(AmqpTemplate amqpTemplate,
+            @Value("${contract-events.retry.max-attempts}") int maxAttempts,
+            @Value("${contract-events.retry.initial-interval}") Duration initialInterval,
+            @Value("${contract-events.retry.max-interval}") Duration maxInterval) {
+        RepublishMessageRecoverer deadLetterRecoverer =
+                new RepublishMessageRecoverer(amqpTemplate, "", CONTRACT_DEAD_LETTER_QUEUE);
+        MessageBatchRecoverer batchRecoverer = (messages, cause) -> messages.forEach(message -> {
+            log.error("Could not process contract event {}, moving it to {}: {}",
+                    new String(message.getBody(), StandardCharsets.UTF_8), CONTRACT_DEAD_LETTER_QUEUE,
+                    cause.getMessage());
+            deadLetterRecoverer.recover(message, cause);
+        });
+        return RetryInterceptorBuilder.stateless()
+                .maxAttempts(maxAttempts)
+                .backOffOptions(initialInterval.toMillis(), 2.0, maxInterval.toMillis())
+                .recoverer(batchRecoverer)
+                .build();
+    }
+
+    @Bean(CONTRACT_BATCH_LISTENER_FACTORY)
+    public SimpleRabbitListenerContainerFactory contractBatchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            @Value("${contract-events.batch-size}") int batchSize,
+            @Value("${contract-events.receive-timeout}") Duration receiveTimeout,
+            RetryOperationsInterceptor contractEventsRetryInterceptor) {
+        // collect contract events into batches that are handled (and acknowledged) together
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeout.toMillis());
+        // retry a failed batch, e.g. after a short database outage, and park it in the dead letter queue if it still
+        // fails instead of redelivering it forever and blocking all following contract events
+        factory.setAdviceChain(contractEventsRetryInterceptor);
+        return factory;
+    }
+
     @Bean
     public MessageConverter converter(){
         return new Jackson2JsonMessageConverter();
@@ -90,6 +149,8 @@ public class MessageQueueConfig {
     public AmqpTemplate amqpTemplate(ConnectionFactory connectionFactory){
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(converter());
+        // propagate the current trace to the receivers in the message headers
+        rabbitTemplate.setObservationEnabled(true);
         return rabbitTemplate;
     }
 
@@ -0,0 +1,37 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.config;
+
+import io.micrometer.core.instrument.Tags;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "second-level-cache.enabled", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public HibernateMetrics hibernateMetrics(@Autowired EntityManagerFactory entityManagerFactory) {
+        // exposes the hibernate statistics, including the hits and misses of the second-level and query caches
+        return new HibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class), "default", Tags.empty());
+    }
+}
@@ -16,9 +16,15 @@
 
 package eu.merloteducation.serviceofferingorchestrator.controller;
 
-import eu.merloteducation.gxfscataloglibrary.service.GxfsWizardApiService;
+import eu.merloteducation.serviceofferingorchestrator.models.dto.CachedShape;
+import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingShapeService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -27,64 +33,120 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/shapes")
 public class ServiceOfferingShapeController {
 
-    private final GxfsWizardApiService gxfsWizardApiService;
+    private final ServiceOfferingShapeService serviceOfferingShapeService;
 
-    public ServiceOfferingShapeController(@Autowired GxfsWizardApiService gxfsWizardApiService) {
-        this.gxfsWizardApiService = gxfsWizardApiService;
+    public ServiceOfferingShapeController(@Autowired ServiceOfferingShapeService serviceOfferingShapeService) {
+        this.serviceOfferingShapeService = serviceOfferingShapeService;
     }
 
     private static final String ECOSYSTEM_MERLOT = "merlot";
     private static final String ECOSYSTEM_GAIAX = "gx";
+    private static final String GZIP = "gzip";
+
+    private ResponseEntity<byte[]> getShape(String ecosystem, String name, String acceptEncoding) {
+        CachedShape shape = serviceOfferingShapeService.getShape(ecosystem, name);
+
+        // conditional requests (If-None-Match) are answered with 304 based on the ETag set here
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return response
+                    .eTag(shape.getETag() + "-" + GZIP)
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .body(shape.getGzippedBody());
+        }
+        return response.eTag(shape.getETag()).body(shape.getBody());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            if (parameters[0].trim().equalsIgnoreCase(GZIP)) {
+                // gzip;q=0 explicitly refuses the encoding
+                return getQuality(parameters) > 0;
+            }
+        }
+        return false;
+    }
+
+    private static double getQuality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim().toLowerCase();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
 
 
     /**
      * GET request for retrieving the Gaia-X service offering shape.
      *
+     * @param acceptEncoding content encodings accepted by the client
      * @return catalog shape
      */
     @GetMapping("/gx/serviceoffering")
-    public String getGxServiceOfferingShape() {
-        return gxfsWizardApiService.getShapeByName(ECOSYSTEM_GAIAX, "Serviceoffering.json");
+    public ResponseEntity<byte[]> getGxServiceOfferingShape(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return getShape(ECOSYSTEM_GAIAX, "Serviceoffering.json", acceptEncoding);
     }
 
     /**
      * GET request for retrieving the MERLOT general service offering shape.
      *
+     * @param acceptEncoding content encodings accepted by the client
      * @return catalog shape
      */
     @GetMapping("/merlot/serviceoffering")
-    public String getMerlotServiceOfferingShape() {
-        return gxfsWizardApiService.getShapeByName(ECOSYSTEM_MERLOT, "Merlotserviceoffering.json");
+    public ResponseEntity<byte[]> getMerlotServiceOfferingShape(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return getShape(ECOSYSTEM_MERLOT, "Merlotserviceoffering.json", acceptEncoding);
     }
 
     /**
      * GET request for retrieving the MERLOT Software as a Service service offering shape.
      *
+     * @param acceptEncoding content encodings accepted by the client
      * @return catalog shape
      */
     @GetMapping("/merlot/serviceoffering/saas")
-    public String getMerlotSaasServiceOfferingShape() {
-        return gxfsWizardApiService.getShapeByName(ECOSYSTEM_MERLOT, "Merlotsaasserviceoffering.json");
+    public ResponseEntity<byte[]> getMerlotSaasServiceOfferingShape(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return getShape(ECOSYSTEM_MERLOT, "Merlotsaasserviceoffering.json", acceptEncoding);
     }
 
     /**
      * GET request for retrieving the MERLOT Data Delivery service offering shape.
      *
+     * @param acceptEncoding content encodings accepted by the client
      * @return catalog shape
      */
     @GetMapping("/merlot/serviceoffering/datadelivery")
-    public String getMerlotDataDeliveryServiceOfferingShape() {
-        return gxfsWizardApiService.getShapeByName(ECOSYSTEM_MERLOT, "Merlotdatadeliveryserviceoffering.json");
+    public ResponseEntity<byte[]> getMerlotDataDeliveryServiceOfferingShape(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return getShape(ECOSYSTEM_MERLOT, "Merlotdatadeliveryserviceoffering.json", acceptEncoding);
     }
 
     /**
      * GET request for retrieving the MERLOT Coop Contract service offering shape.
      *
+     * @param acceptEncoding content encodings accepted by the client
      * @return catalog shape
      */
     @GetMapping("/merlot/serviceoffering/coopcontract")
-    public String getMerlotCoopContractServiceOfferingShape() {
-        return gxfsWizardApiService.getShapeByName(ECOSYSTEM_MERLOT, "Merlotcoopcontractserviceoffering.json");
+    public ResponseEntity<byte[]> getMerlotCoopContractServiceOfferingShape(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return getShape(ECOSYSTEM_MERLOT, "Merlotcoopcontractserviceoffering.json", acceptEncoding);
     }
 
 }
@@ -19,7 +19,11 @@ package eu.merloteducation.serviceofferingorchestrator.controller;
 import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.SelfDescriptionMeta;
 import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingBasicDto;
 import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingDto;
+import eu.merloteducation.serviceofferingorchestrator.models.dto.OfferingSubmissionJobDto;
+import eu.merloteducation.serviceofferingorchestrator.models.dto.ServiceOfferingBulkResult;
+import eu.merloteducation.serviceofferingorchestrator.models.dto.ServiceOfferingCursorPage;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingState;
+import eu.merloteducation.serviceofferingorchestrator.service.OfferingSubmissionJobService;
 import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingsService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
@@ -30,9 +34,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 
+import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 @RestController
@@ -41,8 +48,12 @@ public class ServiceOfferingsController {
 
     private final ServiceOfferingsService serviceOfferingsService;
 
-    public ServiceOfferingsController(@Autowired ServiceOfferingsService serviceOfferingsService) {
+    private final OfferingSubmissionJobService offeringSubmissionJobService;
+
+    public ServiceOfferingsController(@Autowired ServiceOfferingsService serviceOfferingsService,
+                                      @Autowired OfferingSubmissionJobService offeringSubmissionJobService) {
         this.serviceOfferingsService = serviceOfferingsService;
+        this.offeringSubmissionJobService = offeringSubmissionJobService;
     }
 
     /**
@@ -83,6 +94,44 @@ public class ServiceOfferingsController {
                         orgaId, state, PageRequest.of(page, size, Sort.by("creationDate").descending()));
     }
 
+    /**
+     * GET request for scrolling through all public service offerings using a cursor instead of page numbers.
+     *
+     * @param cursor         cursor of the previous page, omitted for the first page
+     * @param size           number of items
+     * @param withTotalCount whether the total number of offerings should be counted as well
+     * @return page of public offerings including the cursor of the next page
+     */
+    @GetMapping("/scroll")
+    public Mono<ServiceOfferingCursorPage> scrollPublicServiceOfferings(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "9") @Max(15) int size,
+            @RequestParam(value = "withTotalCount", defaultValue = "false") boolean withTotalCount) {
+        return serviceOfferingsService.getAllPublicServiceOfferingsReactive(cursor, size, withTotalCount);
+    }
+
+    /**
+     * GET request for scrolling through the offerings of an organization using a cursor instead of page numbers.
+     *
+     * @param cursor         cursor of the previous page, omitted for the first page
+     * @param size           number of items
+     * @param withTotalCount whether the total number of offerings should be counted as well
+     * @param state          optional offering state filter
+     * @param orgaId         organization to fetch the offerings for
+     * @return page of organization offerings including the cursor of the next page
+     */
+    @GetMapping("/organization/{orgaId}/scroll")
+    @PreAuthorize("@authorityChecker.representsOrganization(authentication, #orgaId)")
+    public Mono<ServiceOfferingCursorPage> scrollOrganizationServiceOfferings(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "9") @Max(15) int size,
+            @RequestParam(value = "withTotalCount", defaultValue = "false") boolean withTotalCount,
+            @RequestParam(name = "state", required = false) ServiceOfferingState state,
+            @PathVariable(value = "orgaId") String orgaId) {
+        return serviceOfferingsService
+                .getOrganizationServiceOfferingsReactive(orgaId, state, cursor, size, withTotalCount);
+    }
+
     /**
      * GET request for accessing details to a specific offering.
      *
@@ -112,6 +161,20 @@ public class ServiceOfferingsController {
         return serviceOfferingsService.addServiceOffering(serviceOfferingDto, authToken);
     }
 
+    /**
+     * POST request for publishing multiple Service offerings at once.
+     *
+     * @param serviceOfferingDtos service offering dtos
+     * @return creation result for each of the offerings
+     */
+    @PostMapping("/serviceoffering/bulk")
+    @PreAuthorize("@offeringAuthorityChecker.representsProviderParticipants(authentication, #serviceOfferingDtos)")
+    public List<ServiceOfferingBulkResult> addServiceOfferings(
+            @RequestBody List<@Valid ServiceOfferingDto> serviceOfferingDtos,
+            @RequestHeader(name = "Authorization") String authToken) {
+        return serviceOfferingsService.addServiceOfferings(serviceOfferingDtos, authToken);
+    }
+
     /**
      * PUT request for updating a Service offering.
      *
@@ -126,6 +189,62 @@ public class ServiceOfferingsController {
         return serviceOfferingsService.updateServiceOffering(serviceOfferingDto, serviceofferingId, authToken);
     }
 
+    /**
+     * PUT request for updating multiple Service offerings at once.
+     *
+     * @param serviceOfferingDtos service offering dtos, identified by the ids of their self-descriptions
+     * @return update result for each of the offerings
+     */
+    @PutMapping("/serviceoffering/bulk")
+    @PreAuthorize("@offeringAuthorityChecker.representsProviderParticipants(authentication, #serviceOfferingDtos)")
+    public List<ServiceOfferingBulkResult> updateServiceOfferings(
+            @RequestBody List<@Valid ServiceOfferingDto> serviceOfferingDtos,
+            @RequestHeader(name = "Authorization") String authToken) {
+        return serviceOfferingsService.updateServiceOfferings(serviceOfferingDtos, authToken);
+    }
+
+    /**
+     * POST request for publishing a Service offering in the background.
+     *
+     * @param serviceOfferingDto service offering dto
+     * @return submission job to poll for the creation response
+     */
+    @PostMapping("/serviceoffering/async")
+    @ResponseStatus(ACCEPTED)
+    @PreAuthorize("@offeringAuthorityChecker.representsProviderParticipant(authentication, #serviceOfferingDto)")
+    public OfferingSubmissionJobDto addServiceOfferingAsync(@Valid @RequestBody ServiceOfferingDto serviceOfferingDto,
+                                                            @RequestHeader(name = "Authorization") String authToken) {
+        return offeringSubmissionJobService.submitAddServiceOffering(serviceOfferingDto, authToken);
+    }
+
+    /**
+     * PUT request for updating a Service offering in the background.
+     *
+     * @param serviceOfferingDto service offering dto
+     * @return submission job to poll for the creation response
+     */
+    @PutMapping("/serviceoffering/async/{soId}")
+    @ResponseStatus(ACCEPTED)
+    @PreAuthorize("@offeringAuthorityChecker.representsProviderParticipant(authentication, #serviceOfferingDto)")
+    public OfferingSubmissionJobDto updateServiceOfferingAsync(@Valid @RequestBody ServiceOfferingDto serviceOfferingDto,
+                                                               @PathVariable(value = "soId") String serviceofferingId,
+                                                               @RequestHeader(name = "Authorization") String authToken) {
+        return offeringSubmissionJobService
+                .submitUpdateServiceOffering(serviceOfferingDto, serviceofferingId, authToken);
+    }
+
+    /**
+     * GET request for the status and, once finished, the result of a background submission.
+     *
+     * @param jobId id of the submission job
+     * @return submission job
+     */
+    @GetMapping("/serviceoffering/jobs/{jobId}")
+    @PreAuthorize("@offeringAuthorityChecker.isJobIssuer(authentication, #jobId)")
+    public OfferingSubmissionJobDto getSubmissionJob(@PathVariable(value = "jobId") String jobId) {
+        return offeringSubmissionJobService.getJob(jobId);
+    }
+
     /**
      * POST request for a given offering id, attempt to copy all fields to a new offering with a new id.
      *
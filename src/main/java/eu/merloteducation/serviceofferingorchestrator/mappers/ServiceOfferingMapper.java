@@ -28,6 +28,7 @@ import eu.merloteducation.modelslib.api.organization.MerlotParticipantDto;
 import eu.merloteducation.modelslib.api.serviceoffering.ProviderDetailsDto;
 import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingBasicDto;
 import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingDto;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.SelfDescriptionSummary;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingExtension;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -64,25 +65,47 @@ public interface ServiceOfferingMapper {
     default ServiceOfferingBasicDto selfDescriptionMetaToServiceOfferingBasicDto(SelfDescriptionMeta selfDescriptionMeta,
                                                                                  ServiceOfferingExtension extension,
                                                                                  MerlotParticipantDto providerDetails) {
+        return selfDescriptionSummaryToServiceOfferingBasicDto(
+                selfDescriptionMetaToSelfDescriptionSummary(selfDescriptionMeta), extension, providerDetails);
+    }
+
+    default ServiceOfferingBasicDto selfDescriptionSummaryToServiceOfferingBasicDto(SelfDescriptionSummary summary,
+                                                                                    ServiceOfferingExtension extension,
+                                                                                    MerlotParticipantDto providerDetails) {
         MerlotLegalParticipantCredentialSubject participantCs = providerDetails.getSelfDescription()
                 .findFirstCredentialSubjectByType(MerlotLegalParticipantCredentialSubject.class);
-        GxServiceOfferingCredentialSubject offeringCs = selfDescriptionMeta.getContent()
-                .findFirstCredentialSubjectByType(GxServiceOfferingCredentialSubject.class);
-        PojoCredentialSubject merlotSpecificOfferingCs = getSpecificMerlotOfferingCs(selfDescriptionMeta.getContent());
 
         ServiceOfferingBasicDto dto = new ServiceOfferingBasicDto();
-        dto.setId(offeringCs.getId());
-        dto.setType(merlotSpecificOfferingCs == null
-                ? "merlot:MerlotServiceOffering"
-                : merlotSpecificOfferingCs.getType());
+        dto.setId(summary.getOfferingId());
+        dto.setType(summary.getType());
         dto.setState(extension.getState().toString());
-        dto.setName(offeringCs.getName());
+        dto.setName(summary.getName());
         dto.setCreationDate(getDateTimeString(extension.getCreationDate()));
         dto.setProviderLegalName(participantCs.getLegalName());
 
         return dto;
     }
 
+    default SelfDescriptionSummary selfDescriptionMetaToSelfDescriptionSummary(SelfDescriptionMeta selfDescriptionMeta) {
+        return credentialSubjectsToSelfDescriptionSummary(selfDescriptionMeta.getSdHash(),
+                selfDescriptionMeta.getContent().findFirstCredentialSubjectByType(GxServiceOfferingCredentialSubject.class),
+                getSpecificMerlotOfferingCs(selfDescriptionMeta.getContent()));
+    }
+
+    default SelfDescriptionSummary credentialSubjectsToSelfDescriptionSummary(String sdHash,
+                                                                              GxServiceOfferingCredentialSubject offeringCs,
+                                                                              PojoCredentialSubject merlotSpecificOfferingCs) {
+        SelfDescriptionSummary summary = new SelfDescriptionSummary();
+        summary.setSdHash(sdHash);
+        summary.setOfferingId(offeringCs.getId());
+        summary.setName(offeringCs.getName());
+        summary.setType(merlotSpecificOfferingCs == null
+                ? "merlot:MerlotServiceOffering"
+                : merlotSpecificOfferingCs.getType());
+        summary.setProviderId(offeringCs.getProvidedBy() != null ? offeringCs.getProvidedBy().getId() : null);
+        return summary;
+    }
+
     default PojoCredentialSubject getSpecificMerlotOfferingCs(ExtendedVerifiablePresentation vp) {
 
         // consider all MERLOT specific offering classes
@@ -0,0 +1,30 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CachedShape {
+    private byte[] body;
+
+    private byte[] gzippedBody; // compressed once so repeated requests do not pay for it
+
+    private String eTag; // hex encoded SHA-256 of the body
+}
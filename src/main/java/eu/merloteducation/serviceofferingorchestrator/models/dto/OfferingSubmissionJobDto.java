@@ -0,0 +1,45 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.models.dto;
+
+import eu.merloteducation.serviceofferingorchestrator.models.entities.OfferingSubmissionJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfferingSubmissionJobDto {
+    private String id;
+
+    private OfferingSubmissionJobStatus status;
+
+    private String offeringId;
+
+    private String sdHash; // null until the job has succeeded
+
+    private Integer errorStatus; // null unless the job has failed
+
+    private String errorMessage; // null unless the job has failed
+
+    private OffsetDateTime creationDate;
+
+    private OffsetDateTime lastUpdateDate;
+}
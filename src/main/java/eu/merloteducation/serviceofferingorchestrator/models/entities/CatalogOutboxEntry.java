@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.models.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+@Entity
+@Table(indexes = @Index(name = "idx_catalog_outbox_next_attempt", columnList = "next_attempt_date"))
+@Getter
+@Setter
+public class CatalogOutboxEntry {
+    @Id
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    private CatalogOutboxOperation operation;
+
+    private String sdHash; // self-description in the catalog the operation applies to
+
+    private int attempts;
+
+    private OffsetDateTime nextAttemptDate;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private OffsetDateTime creationDate;
+
+    public CatalogOutboxEntry() {
+        this.id = UUID.randomUUID().toString();
+        this.creationDate = OffsetDateTime.now(ZoneOffset.UTC);
+        this.nextAttemptDate = this.creationDate;
+    }
+
+    public CatalogOutboxEntry(CatalogOutboxOperation operation, String sdHash) {
+        this();
+        this.operation = operation;
+        this.sdHash = sdHash;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.models.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+public class OfferingSubmissionJob {
+    @Id
+    private String id;
+
+    private String issuer; // provider of the submitted offering, allowed to query the job
+
+    private String offeringId; // offering to update or, once succeeded, the created offering
+
+    private String sdHash; // hash of the stored self-description once succeeded
+
+    @Enumerated(EnumType.STRING)
+    private OfferingSubmissionJobStatus status;
+
+    private Integer errorStatus;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    private OffsetDateTime creationDate;
+
+    private OffsetDateTime lastUpdateDate;
+
+    // the job runner and the stale job sweep must not overwrite each other's status, jobs stored before this column
+    // existed start at version 0
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    public OfferingSubmissionJob() {
+        this.id = UUID.randomUUID().toString();
+        this.status = OfferingSubmissionJobStatus.PENDING;
+        this.creationDate = OffsetDateTime.now(ZoneOffset.UTC);
+        this.lastUpdateDate = this.creationDate;
+    }
+}
@@ -20,16 +20,31 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
+@Table(indexes = {
+        // public listings filter on the state and page by creation date
+        @Index(name = "idx_offering_state_creation", columnList = "state, creation_date, id"),
+        // organization listings filter on the issuer and optionally the state
+        @Index(name = "idx_offering_issuer_state_creation", columnList = "issuer, state, creation_date"),
+        @Index(name = "idx_offering_issuer_creation", columnList = "issuer, creation_date, id")
+})
+// only cached if the second-level cache is enabled, see second-level-cache.enabled
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ServiceOfferingExtension.CACHE_REGION)
 @Getter
 @Setter
 public class ServiceOfferingExtension {
+    public static final String CACHE_REGION = "serviceOfferingExtensions";
+    public static final String CONTRACTS_CACHE_REGION = "serviceOfferingExtensionContracts";
+
     @Id
     private String id;
 
@@ -43,12 +58,18 @@ public class ServiceOfferingExtension {
     @Setter(AccessLevel.NONE)
     private ServiceOfferingState state;
 
+    @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ServiceOfferingExtension.CONTRACTS_CACHE_REGION)
+    @CollectionTable(name = "service_offering_extension_contract",
+            joinColumns = @JoinColumn(name = "offering_id"),
+            uniqueConstraints = @UniqueConstraint(columnNames = {"offering_id", "contract_id"}))
+    @Column(name = "contract_id")
     @Setter(AccessLevel.NONE)
-    private List<String> associatedContractIds;
+    private Set<String> associatedContractIds;
 
     public ServiceOfferingExtension() {
         this.state = ServiceOfferingState.IN_DRAFT;
-        this.associatedContractIds = new ArrayList<>();
+        this.associatedContractIds = new HashSet<>();
         this.creationDate = OffsetDateTime.now(ZoneOffset.UTC);
     }
 
@@ -90,4 +111,8 @@ public class ServiceOfferingExtension {
         this.associatedContractIds.add(contractId);
     }
 
+    public boolean removeAssociatedContract(String contractId) {
+        return this.associatedContractIds.remove(contractId);
+    }
+
 }
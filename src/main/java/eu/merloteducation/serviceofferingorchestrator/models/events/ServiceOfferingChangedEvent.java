@@ -0,0 +1,39 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.models.events;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * Broadcast on the cloud bus to all orchestrator instances whenever a service offering extension was written,
+ * so that every instance can drop it from its second-level cache. An empty offering id refers to all offerings.
+ */
+@Getter
+@NoArgsConstructor // needed for deserialization from the bus
+public class ServiceOfferingChangedEvent extends RemoteApplicationEvent {
+
+    private String offeringId;
+
+    public ServiceOfferingChangedEvent(Object source, String originService, Destination destination,
+                                       String offeringId) {
+        super(source, originService, destination);
+        this.offeringId = offeringId;
+    }
+}
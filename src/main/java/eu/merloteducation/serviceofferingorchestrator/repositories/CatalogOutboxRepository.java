@@ -0,0 +1,39 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.repositories;
+
+import eu.merloteducation.serviceofferingorchestrator.models.entities.CatalogOutboxEntry;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface CatalogOutboxRepository extends JpaRepository<CatalogOutboxEntry, String> {
+
+    // locks the returned entries until the end of the transaction, entries that are locked by another instance are
+    // skipped (lock timeout -2, i.e. SKIP LOCKED) instead of being waited for
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    List<CatalogOutboxEntry> findByNextAttemptDateLessThanEqualOrderByNextAttemptDateAsc(OffsetDateTime date,
+                                                                                         Limit limit);
+}
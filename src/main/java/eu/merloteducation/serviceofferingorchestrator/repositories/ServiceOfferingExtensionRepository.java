@@ -18,18 +18,88 @@ package eu.merloteducation.serviceofferingorchestrator.repositories;
 
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingExtension;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingState;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 public interface ServiceOfferingExtensionRepository extends JpaRepository<ServiceOfferingExtension, String> {
+    // seek predicate and ordering for keyset pagination, the id makes the order unique among equal creation dates
+    String AFTER_CURSOR = " and (e.creationDate < :creationDate or (e.creationDate = :creationDate and e.id < :id))";
+    String ORDER_BY_CURSOR = " order by e.creationDate desc, e.id desc";
+
+    // the public listing pages are requested far more often than offerings change, cache them if enabled
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<ServiceOfferingExtension> findAllByState(ServiceOfferingState state, Pageable pageable);
 
     Page<ServiceOfferingExtension> findAllByIssuer(String issuer, Pageable pageable);
     Page<ServiceOfferingExtension> findAllByIssuerAndState(String issuer, ServiceOfferingState state, Pageable pageable);
 
-    List<ServiceOfferingExtension> findAllByIssuerAndState(String issuer, ServiceOfferingState state);
+    List<ServiceOfferingExtension> findAllByStateOrderByCreationDateDescIdDesc(ServiceOfferingState state, Limit limit);
+
+    @Query("select e from ServiceOfferingExtension e where e.state = :state" + AFTER_CURSOR + ORDER_BY_CURSOR)
+    List<ServiceOfferingExtension> findAllByStateAfterCursor(@Param("state") ServiceOfferingState state,
+                                                             @Param("creationDate") OffsetDateTime creationDate,
+                                                             @Param("id") String id,
+                                                             Limit limit);
+
+    List<ServiceOfferingExtension> findAllByIssuerOrderByCreationDateDescIdDesc(String issuer, Limit limit);
+
+    @Query("select e from ServiceOfferingExtension e where e.issuer = :issuer" + AFTER_CURSOR + ORDER_BY_CURSOR)
+    List<ServiceOfferingExtension> findAllByIssuerAfterCursor(@Param("issuer") String issuer,
+                                                              @Param("creationDate") OffsetDateTime creationDate,
+                                                              @Param("id") String id,
+                                                              Limit limit);
+
+    List<ServiceOfferingExtension> findAllByIssuerAndStateOrderByCreationDateDescIdDesc(String issuer,
+                                                                                       ServiceOfferingState state,
+                                                                                       Limit limit);
+
+    @Query("select e from ServiceOfferingExtension e where e.issuer = :issuer and e.state = :state"
+            + AFTER_CURSOR + ORDER_BY_CURSOR)
+    List<ServiceOfferingExtension> findAllByIssuerAndStateAfterCursor(@Param("issuer") String issuer,
+                                                                      @Param("state") ServiceOfferingState state,
+                                                                      @Param("creationDate") OffsetDateTime creationDate,
+                                                                      @Param("id") String id,
+                                                                      Limit limit);
+
+    long countByState(ServiceOfferingState state);
+
+    long countByIssuer(String issuer);
+
+    long countByIssuerAndState(String issuer, ServiceOfferingState state);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update ServiceOfferingExtension e set e.state = :targetState "
+            + "where e.issuer = :issuer and e.state = :currentState")
+    int updateStateByIssuerAndState(@Param("issuer") String issuer,
+                                    @Param("currentState") ServiceOfferingState currentState,
+                                    @Param("targetState") ServiceOfferingState targetState);
+
+    /**
+     * Transition all offerings of an issuer that are in the given state to the target state with a single update.
+     *
+     * @param issuer       issuer of the offerings
+     * @param currentState state of the offerings to transition
+     * @param targetState  state to transition the offerings to
+     * @return number of transitioned offerings
+     */
+    default int transitionAllByIssuerAndState(String issuer, ServiceOfferingState currentState,
+                                              ServiceOfferingState targetState) {
+        if (!currentState.checkTransitionAllowed(targetState)) {
+            throw new IllegalStateException(String.format("Cannot transition from state %s to %s",
+                    currentState.name(), targetState.name()));
+        }
+        return updateStateByIssuerAndState(issuer, currentState, targetState);
+    }
 
 }
@@ -38,6 +38,8 @@ public class WebSecurityConfig {
         http.authorizeHttpRequests(requests -> requests
                 .requestMatchers(new AntPathRequestMatcher("/")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/health")).permitAll()
+                .requestMatchers(new AntPathRequestMatcher("/health/**")).permitAll()
+                .requestMatchers(new AntPathRequestMatcher("/scroll")).permitAll()
                 .anyRequest().authenticated());
         merlotSecurityConfig.applySecurityConfig(http);
         return http.build();
@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Copies contract associations from the former array column of the offering extension table into the
+ * service_offering_extension_contract collection table. This happens after the schema has been updated but before the
+ * web server and message listeners are started, so no offering is ever handled without its contracts.
+ * <p>
+ * The copy runs once per database: a marker row in the data_migration table is inserted in the same transaction, so
+ * instances starting at the same time wait for each other and only the first one copies. The legacy column itself is
+ * kept, as instances of the previous version may still use it during a rolling deployment, and has to be dropped
+ * manually once they are gone (see README).
+ */
+@Component
+@Slf4j
+public class AssociatedContractsBackfill implements SmartInitializingSingleton {
+
+    private static final String MIGRATION_ID = "associated-contracts-collection-table";
+    private static final String OFFERING_TABLE = "service_offering_extension";
+    private static final String LEGACY_CONTRACTS_COLUMN = "associated_contract_ids";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public AssociatedContractsBackfill(@Autowired JdbcTemplate jdbcTemplate,
+                                       @Autowired PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!legacyColumnExists()) {
+            return;
+        }
+
+        jdbcTemplate.execute("create table if not exists data_migration "
+                + "(id varchar(255) not null primary key, execution_date timestamp not null)");
+        Integer migratedLinks;
+        try {
+            migratedLinks = transactionTemplate.execute(status -> {
+                // blocks while another instance runs the migration and fails once it has committed it
+                jdbcTemplate.update("insert into data_migration (id, execution_date) values (?, current_timestamp)",
+                        MIGRATION_ID);
+                return copyLegacyContracts();
+            });
+        } catch (DuplicateKeyException e) {
+            log.debug("Contract associations were already migrated from the legacy column {}.{}", OFFERING_TABLE,
+                    LEGACY_CONTRACTS_COLUMN);
+            return;
+        }
+        log.info("Migrated {} contract associations from the legacy column {}.{}", migratedLinks, OFFERING_TABLE,
+                LEGACY_CONTRACTS_COLUMN);
+    }
+
+    private int copyLegacyContracts() {
+        List<LegacyContracts> legacyContracts = jdbcTemplate.query(
+                "select id, " + LEGACY_CONTRACTS_COLUMN + " from " + OFFERING_TABLE
+                        + " where " + LEGACY_CONTRACTS_COLUMN + " is not null",
+                (rs, rowNum) -> new LegacyContracts(rs.getString("id"),
+                        toContractIds(rs.getArray(LEGACY_CONTRACTS_COLUMN))));
+
+        int links = 0;
+        for (LegacyContracts offering : legacyContracts) {
+            for (Object contractId : offering.contractIds()) {
+                links += jdbcTemplate.update("insert into service_offering_extension_contract "
+                                + "(offering_id, contract_id) select ?, ? where not exists (select 1 from "
+                                + "service_offering_extension_contract where offering_id = ? and contract_id = ?)",
+                        offering.id(), contractId, offering.id(), contractId);
+            }
+        }
+        return links;
+    }
+
+    private boolean legacyColumnExists() {
+        Integer columns = jdbcTemplate.queryForObject("select count(*) from information_schema.columns "
+                        + "where table_schema = current_schema and lower(table_name) = ? and lower(column_name) = ?",
+                Integer.class, OFFERING_TABLE, LEGACY_CONTRACTS_COLUMN);
+        return columns != null && columns > 0;
+    }
+
+    private static Object[] toContractIds(Array array) throws SQLException {
+        if (array == null) {
+            return new Object[0];
+        }
+        try {
+            return (Object[]) array.getArray();
+        } finally {
+            array.free();
+        }
+    }
+
+    private record LegacyContracts(String id, Object[] contractIds) {
+    }
+}
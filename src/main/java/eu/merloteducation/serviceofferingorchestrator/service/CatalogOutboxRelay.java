@@ -0,0 +1,143 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.service;
+
+import eu.merloteducation.gxfscataloglibrary.service.GxfsCatalogService;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.CatalogOutboxEntry;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.CatalogOutboxOperation;
+import eu.merloteducation.serviceofferingorchestrator.repositories.CatalogOutboxRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@Service
+@Slf4j
+public class CatalogOutboxRelay {
+
+    private final CatalogOutboxRepository catalogOutboxRepository;
+    private final GxfsCatalogService gxfsCatalogService;
+    private final RemoteServiceGuard remoteServiceGuard;
+    private final int batchSize;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public CatalogOutboxRelay(@Autowired CatalogOutboxRepository catalogOutboxRepository,
+                              @Autowired GxfsCatalogService gxfsCatalogService,
+                              @Autowired RemoteServiceGuard remoteServiceGuard,
+                              @Value("${catalog-outbox.batch-size}") int batchSize,
+                              @Value("${catalog-outbox.initial-backoff}") Duration initialBackoff,
+                              @Value("${catalog-outbox.max-backoff}") Duration maxBackoff) {
+        this.catalogOutboxRepository = catalogOutboxRepository;
+        this.gxfsCatalogService = gxfsCatalogService;
+        this.remoteServiceGuard = remoteServiceGuard;
+        this.batchSize = batchSize;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Record that the given operation has to be applied to a self-description in the catalog. The entry is
+     * written within the transaction of the caller and hence only relayed if that transaction commits.
+     *
+     * @param operation operation to apply in the catalog
+     * @param sdHash    hash of the self-description
+     */
+    @Transactional
+    public void enqueue(CatalogOutboxOperation operation, String sdHash) {
+        catalogOutboxRepository.save(new CatalogOutboxEntry(operation, sdHash));
+    }
+
+    /**
+     * Record that the given operation has to be applied to a self-description in the catalog. The entry is
+     * written in its own transaction and is therefore kept even if the transaction of the caller rolls back.
+     *
+     * @param operation operation to apply in the catalog
+     * @param sdHash    hash of the self-description
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void enqueueIndependently(CatalogOutboxOperation operation, String sdHash) {
+        catalogOutboxRepository.save(new CatalogOutboxEntry(operation, sdHash));
+    }
+
+    /**
+     * Periodically apply all due outbox entries to the catalog. Entries are removed once the catalog accepted them,
+     * failed attempts are retried with an exponential backoff. The due entries are locked until all of them have been
+     * relayed, so every instance relays a different set of entries.
+     */
+    @Scheduled(fixedDelayString = "${catalog-outbox.poll-interval}",
+            initialDelayString = "${catalog-outbox.poll-interval}")
+    @Transactional
+    public void relayPendingEntries() {
+        List<CatalogOutboxEntry> entries = catalogOutboxRepository
+                .findByNextAttemptDateLessThanEqualOrderByNextAttemptDateAsc(OffsetDateTime.now(ZoneOffset.UTC),
+                        Limit.of(batchSize));
+        entries.forEach(this::relay);
+    }
+
+    private void relay(CatalogOutboxEntry entry) {
+        try {
+            applyToCatalog(entry);
+            catalogOutboxRepository.delete(entry);
+        } catch (RuntimeException e) {
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setNextAttemptDate(OffsetDateTime.now(ZoneOffset.UTC).plus(getBackoff(entry.getAttempts())));
+            String message = String.valueOf(e.getMessage());
+            entry.setLastError(message.substring(0, Math.min(500, message.length())));
+            catalogOutboxRepository.save(entry);
+            log.warn("Failed to {} self-description {} in catalog (attempt {}), retrying at {}: {}",
+                    entry.getOperation(), entry.getSdHash(), entry.getAttempts(), entry.getNextAttemptDate(),
+                    e.getMessage());
+        }
+    }
+
+    private void applyToCatalog(CatalogOutboxEntry entry) {
+        try {
+            switch (entry.getOperation()) {
+                case REVOKE -> remoteServiceGuard.run(RemoteServiceGuard.CATALOG, "revokeSelfDescriptionByHash",
+                        () -> gxfsCatalogService.revokeSelfDescriptionByHash(entry.getSdHash()));
+                case DELETE -> remoteServiceGuard.run(RemoteServiceGuard.CATALOG, "deleteSelfDescriptionByHash",
+                        () -> gxfsCatalogService.deleteSelfDescriptionByHash(entry.getSdHash()));
+            }
+        } catch (WebClientResponseException e) {
+            // entries may be relayed more than once, a self-description that is already gone or revoked is done
+            if (e.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)
+                    || (entry.getOperation() == CatalogOutboxOperation.REVOKE
+                    && e.getStatusCode().isSameCodeAs(HttpStatus.CONFLICT))) {
+                log.info("Self-description {} was already handled in catalog: {}", entry.getSdHash(),
+                        e.getStatusCode());
+                return;
+            }
+            throw e;
+        }
+    }
+
+    private Duration getBackoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
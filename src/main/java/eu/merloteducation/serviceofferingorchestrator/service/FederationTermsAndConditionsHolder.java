@@ -0,0 +1,112 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.service;
+
+import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.gx.datatypes.GxSOTermsAndConditions;
+import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.merlot.datatypes.ParticipantTermsAndConditions;
+import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.merlot.participants.MerlotLegalParticipantCredentialSubject;
+import eu.merloteducation.serviceofferingorchestrator.models.events.OrganizationChangedEvent;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the terms and conditions of the MERLOT federation which are added to every offering, so that they do not
+ * need to be fetched from the organizations orchestrator on every write.
+ */
+@Component
+@Slf4j
+public class FederationTermsAndConditionsHolder {
+
+    private final OrganizationOrchestratorClient organizationOrchestratorClient;
+
+    @Getter
+    private final String merlotFederationId;
+
+    private volatile FederationTermsAndConditions termsAndConditions;
+
+    public FederationTermsAndConditionsHolder(@Autowired OrganizationOrchestratorClient organizationOrchestratorClient,
+                                              @Value("${merlot-domain}") String merlotDomain) {
+        this.organizationOrchestratorClient = organizationOrchestratorClient;
+        this.merlotFederationId = "did:web:" + merlotDomain.replaceFirst(":", "%3A")
+                + ":participant:df15587a-0760-32b5-9c42-bb7be66e8076";
+    }
+
+    /**
+     * Return the terms and conditions of the MERLOT federation, resolving them on first access.
+     *
+     * @return a fresh copy of the federation terms and conditions
+     */
+    public GxSOTermsAndConditions getTermsAndConditions() {
+        FederationTermsAndConditions current = termsAndConditions;
+        if (current == null) {
+            current = refresh();
+        }
+        // hand out copies as the catalog library types are mutable
+        GxSOTermsAndConditions tnc = new GxSOTermsAndConditions();
+        tnc.setUrl(current.url());
+        tnc.setHash(current.hash());
+        return tnc;
+    }
+
+    /**
+     * Periodically reload the federation terms and conditions. If they cannot be loaded,
+     * the previously resolved ones are kept.
+     */
+    @Scheduled(fixedDelayString = "${federation-tnc.refresh-interval}",
+            initialDelayString = "${federation-tnc.refresh-interval}")
+    public void refreshPeriodically() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh the MERLOT federation terms and conditions, keeping the previous ones: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Listen for organization changes that were broadcast on the cloud bus and drop the federation terms and
+     * conditions if the federation itself has changed. They are resolved again on the next access.
+     *
+     * @param organizationChangedEvent organization changed event details
+     */
+    @EventListener
+    public void organizationChangedListener(OrganizationChangedEvent organizationChangedEvent) {
+        if (merlotFederationId.equals(organizationChangedEvent.getOrgaId())) {
+            log.info("MERLOT federation has changed, dropping its terms and conditions");
+            termsAndConditions = null;
+        }
+    }
+
+    private FederationTermsAndConditions refresh() {
+        ParticipantTermsAndConditions participantTnC = organizationOrchestratorClient.getOrganizationDetails(merlotFederationId)
+                .getSelfDescription()
+                .findFirstCredentialSubjectByType(MerlotLegalParticipantCredentialSubject.class)
+                .getTermsAndConditions();
+        FederationTermsAndConditions resolved =
+                new FederationTermsAndConditions(participantTnC.getUrl(), participantTnC.getHash());
+        termsAndConditions = resolved;
+        return resolved;
+    }
+
+    private record FederationTermsAndConditions(String url, String hash) {
+    }
+}
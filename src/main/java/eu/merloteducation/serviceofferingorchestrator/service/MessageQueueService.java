@@ -18,16 +18,30 @@ package eu.merloteducation.serviceofferingorchestrator.service;
 
 import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingDto;
 import eu.merloteducation.modelslib.queue.ContractTemplateUpdated;
+import eu.merloteducation.serviceofferingorchestrator.config.CacheConfig;
 import eu.merloteducation.serviceofferingorchestrator.config.MessageQueueConfig;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingExtension;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingState;
+import eu.merloteducation.serviceofferingorchestrator.models.events.OrganizationChangedEvent;
 import eu.merloteducation.serviceofferingorchestrator.repositories.ServiceOfferingExtensionRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -35,65 +49,95 @@ public class MessageQueueService {
 
     private final ServiceOfferingExtensionRepository serviceOfferingExtensionRepository;
     private final ServiceOfferingsService serviceOfferingsService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final BusProperties busProperties;
+    private final Destination.Factory destinationFactory;
+    private final CacheManager cacheManager;
+    private final ServiceOfferingCacheInvalidator serviceOfferingCacheInvalidator;
 
     public MessageQueueService(@Autowired ServiceOfferingExtensionRepository serviceOfferingExtensionRepository,
-                               @Autowired ServiceOfferingsService serviceOfferingsService) {
+                               @Autowired ServiceOfferingsService serviceOfferingsService,
+                               @Autowired ApplicationEventPublisher applicationEventPublisher,
+                               @Autowired BusProperties busProperties,
+                               @Autowired Destination.Factory destinationFactory,
+                               @Autowired CacheManager cacheManager,
+                               @Autowired ServiceOfferingCacheInvalidator serviceOfferingCacheInvalidator) {
         this.serviceOfferingExtensionRepository = serviceOfferingExtensionRepository;
         this.serviceOfferingsService = serviceOfferingsService;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.busProperties = busProperties;
+        this.destinationFactory = destinationFactory;
+        this.cacheManager = cacheManager;
+        this.serviceOfferingCacheInvalidator = serviceOfferingCacheInvalidator;
     }
 
     /**
-     * Listen for the event that a contract was created on the message bus.
-     * In that case, update the corresponding offering to be linked to the contract.
+     * Listen for the events that contracts were created on the message bus.
+     * In that case, update the corresponding offerings to be linked to the contracts.
      *
-     * @param contractTemplateUpdated contract created event details
+     * @param contractTemplatesUpdated batch of contract created event details
      */
-    @RabbitListener(queues = MessageQueueConfig.CONTRACT_CREATED_QUEUE)
-    public void contractCreatedListener(ContractTemplateUpdated contractTemplateUpdated) {
-        log.info("Contract created message: {}", contractTemplateUpdated);
+    @RabbitListener(queues = MessageQueueConfig.CONTRACT_CREATED_QUEUE,
+            containerFactory = MessageQueueConfig.CONTRACT_BATCH_LISTENER_FACTORY)
+    @Transactional
+    public void contractCreatedListener(List<ContractTemplateUpdated> contractTemplatesUpdated) {
+        log.info("Contract created messages: {}", contractTemplatesUpdated);
 
-        ServiceOfferingExtension extension = serviceOfferingExtensionRepository
-                .findById(contractTemplateUpdated.getServiceOfferingId()).orElse(null);
-
-        if (extension != null) {
-            extension.addAssociatedContract(contractTemplateUpdated.getContractId());
-        } else {
-            log.error("No Service Offering with ID {} was found, hence associated contracts are not updated.",
-                    contractTemplateUpdated.getServiceOfferingId());
-            return;
-        }
-
-        serviceOfferingExtensionRepository.save(extension);
+        updateAssociatedContracts(contractTemplatesUpdated, ServiceOfferingExtension::addAssociatedContract);
     }
 
     /**
-     * Listen for the event that a contract was purged on the message bus.
-     * In that case, update the corresponding offering to be no longer linked to the contract.
+     * Listen for the events that contracts were purged on the message bus.
+     * In that case, update the corresponding offerings to be no longer linked to the contracts.
      *
-     * @param contractTemplateUpdated contract purged event details
+     * @param contractTemplatesUpdated batch of contract purged event details
      */
-    @RabbitListener(queues = MessageQueueConfig.CONTRACT_PURGED_QUEUE)
-    public void contractPurgedListener(ContractTemplateUpdated contractTemplateUpdated) {
-        log.info("Contract deleted message: {}", contractTemplateUpdated);
-
-        ServiceOfferingExtension extension = serviceOfferingExtensionRepository
-                .findById(contractTemplateUpdated.getServiceOfferingId()).orElse(null);
-
-        if (extension != null) {
-            if (extension.getAssociatedContractIds().contains(contractTemplateUpdated.getContractId())) {
-                extension.getAssociatedContractIds().remove(contractTemplateUpdated.getContractId());
-            } else {
-                log.error("No Contract with ID {} was found in service offering {}.",
-                        contractTemplateUpdated.getContractId(), contractTemplateUpdated.getServiceOfferingId());
+    @RabbitListener(queues = MessageQueueConfig.CONTRACT_PURGED_QUEUE,
+            containerFactory = MessageQueueConfig.CONTRACT_BATCH_LISTENER_FACTORY)
+    @Transactional
+    public void contractPurgedListener(List<ContractTemplateUpdated> contractTemplatesUpdated) {
+        log.info("Contract deleted messages: {}", contractTemplatesUpdated);
+
+        updateAssociatedContracts(contractTemplatesUpdated, (extension, contractId) -> {
+            if (!extension.removeAssociatedContract(contractId)) {
+                log.error("No Contract with ID {} was found in service offering {}.", contractId, extension.getId());
+            }
+        });
+    }
+
+    private void updateAssociatedContracts(List<ContractTemplateUpdated> contractTemplatesUpdated,
+                                           BiConsumer<ServiceOfferingExtension, String> update) {
+        // a single malformed event must not fail the whole batch, as it would be rejected together with the valid ones
+        Map<String, List<String>> contractIdsByOffering = contractTemplatesUpdated.stream()
+                .filter(this::isValidContractEvent)
+                .collect(Collectors.groupingBy(ContractTemplateUpdated::getServiceOfferingId, LinkedHashMap::new,
+                        Collectors.mapping(ContractTemplateUpdated::getContractId, Collectors.toList())));
+
+        // load every offering of the batch only once, no matter how many of its contracts changed
+        Map<String, ServiceOfferingExtension> extensions = serviceOfferingExtensionRepository
+                .findAllById(contractIdsByOffering.keySet()).stream()
+                .collect(Collectors.toMap(ServiceOfferingExtension::getId, Function.identity()));
+
+        contractIdsByOffering.forEach((offeringId, contractIds) -> {
+            ServiceOfferingExtension extension = extensions.get(offeringId);
+            if (extension == null) {
+                log.error("No Service Offering with ID {} was found, hence associated contracts are not updated.",
+                        offeringId);
                 return;
             }
-        } else {
-            log.error("No Service Offering with ID {} was found, hence associated contracts are not updated.",
-                    contractTemplateUpdated.getServiceOfferingId());
-            return;
-        }
+            contractIds.forEach(contractId -> update.accept(extension, contractId));
+        });
+
+        serviceOfferingExtensionRepository.saveAll(extensions.values());
+    }
 
-        serviceOfferingExtensionRepository.save(extension);
+    private boolean isValidContractEvent(ContractTemplateUpdated contractTemplateUpdated) {
+        if (contractTemplateUpdated == null || contractTemplateUpdated.getServiceOfferingId() == null
+                || contractTemplateUpdated.getContractId() == null) {
+            log.error("Skipping invalid contract event {}.", contractTemplateUpdated);
+            return false;
+        }
+        return true;
     }
 
     /**
@@ -114,20 +158,57 @@ public class MessageQueueService {
      * @param orgaId id of the organization whose membership has been revoked
      */
     @RabbitListener(queues = MessageQueueConfig.ORGANIZATION_REVOKED_QUEUE)
+    @Transactional
     public void organizationRevokedListener(String orgaId) {
         log.info("Organization revoked message: organization ID {}", orgaId);
+        publishOrganizationChanged(orgaId);
 
-        List<ServiceOfferingExtension> releasedOfferingsByRevokedOrga = serviceOfferingExtensionRepository.findAllByIssuerAndState(
-            orgaId, ServiceOfferingState.RELEASED);
+        int revokedOfferings = serviceOfferingExtensionRepository.transitionAllByIssuerAndState(
+            orgaId, ServiceOfferingState.RELEASED, ServiceOfferingState.REVOKED);
+        // the bulk update bypasses the entity lifecycle, hence other instances need to be told explicitly
+        serviceOfferingCacheInvalidator.allOfferingsChanged();
 
-        if (!releasedOfferingsByRevokedOrga.isEmpty()) {
-            log.info("Revoking released service offerings of organization with ID {}", orgaId);
-            releasedOfferingsByRevokedOrga.forEach(extension -> {
-                extension.revoke();
-                serviceOfferingExtensionRepository.save(extension);
-            });
+        if (revokedOfferings > 0) {
+            log.info("Revoked {} released service offerings of organization with ID {}", revokedOfferings, orgaId);
         } else {
             log.info("No released service offerings of organization with ID {} found to delete", orgaId);
         }
     }
+
+    /**
+     * Listen for organization changes that were broadcast on the cloud bus by any instance of this service.
+     * In that case, drop the cached details of that organization.
+     *
+     * @param organizationChangedEvent organization changed event details
+     */
+    @EventListener
+    public void organizationChangedListener(OrganizationChangedEvent organizationChangedEvent) {
+        evictCachedOrganization(organizationChangedEvent.getOrgaId());
+    }
+
+    private void evictCachedOrganization(String orgaId) {
+        log.info("Evicting cached details of organization with ID {}", orgaId);
+        Cache participantCache = cacheManager.getCache(CacheConfig.PARTICIPANT_CACHE);
+        if (participantCache != null) {
+            participantCache.evict(orgaId);
+        }
+        // the organization may also be the signer of offerings, e.g. after a change of its legal name
+        Cache signerLegalNameCache = cacheManager.getCache(CacheConfig.SIGNER_LEGAL_NAME_CACHE);
+        if (signerLegalNameCache != null) {
+            signerLegalNameCache.evict(orgaId);
+        }
+    }
+
+    private void publishOrganizationChanged(String orgaId) {
+        evictCachedOrganization(orgaId);
+
+        // queue messages are only consumed by a single instance, hence forward them to all instances via the bus
+        try {
+            applicationEventPublisher.publishEvent(new OrganizationChangedEvent(this, busProperties.getId(),
+                    destinationFactory.getDestination(null), orgaId));
+        } catch (RuntimeException e) {
+            log.warn("Could not broadcast change of organization with ID {}, other instances will refresh it " +
+                    "once their cache entry expires: {}", orgaId, e.getMessage());
+        }
+    }
 }
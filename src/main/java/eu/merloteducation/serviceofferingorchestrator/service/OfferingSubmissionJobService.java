@@ -0,0 +1,204 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.service;
+
+import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.SelfDescriptionMeta;
+import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.gx.serviceofferings.GxServiceOfferingCredentialSubject;
+import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingDto;
+import eu.merloteducation.serviceofferingorchestrator.models.dto.OfferingSubmissionJobDto;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.OfferingSubmissionJob;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.OfferingSubmissionJobStatus;
+import eu.merloteducation.serviceofferingorchestrator.repositories.OfferingSubmissionJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.springframework.http.HttpStatus.*;
+
+@Service
+@Slf4j
+public class OfferingSubmissionJobService {
+
+    private final OfferingSubmissionJobRepository offeringSubmissionJobRepository;
+    private final ServiceOfferingsService serviceOfferingsService;
+    private final ThreadPoolTaskExecutor offeringJobExecutor;
+    private final Duration staleAfter;
+
+    public OfferingSubmissionJobService(@Autowired OfferingSubmissionJobRepository offeringSubmissionJobRepository,
+                                        @Autowired ServiceOfferingsService serviceOfferingsService,
+                                        @Autowired ThreadPoolTaskExecutor offeringJobExecutor,
+                                        @Value("${offering-jobs.stale-after}") Duration staleAfter) {
+        this.offeringSubmissionJobRepository = offeringSubmissionJobRepository;
+        this.serviceOfferingsService = serviceOfferingsService;
+        this.offeringJobExecutor = offeringJobExecutor;
+        this.staleAfter = staleAfter;
+    }
+
+    /**
+     * Jobs only live in the memory of the instance that accepted them. If that instance stops before a job has
+     * finished, the job would stay pending or running forever, hence mark jobs without progress for too long as failed.
+     * A job that is still running on another instance is not overwritten once it finishes, so the status its client
+     * may already have seen stays the final one.
+     */
+    @Scheduled(fixedDelayString = "${offering-jobs.stale-check-interval}")
+    public void failStaleJobs() {
+        List<OfferingSubmissionJob> staleJobs = offeringSubmissionJobRepository.findAllByStatusInAndLastUpdateDateBefore(
+                List.of(OfferingSubmissionJobStatus.PENDING, OfferingSubmissionJobStatus.RUNNING),
+                OffsetDateTime.now(ZoneOffset.UTC).minus(staleAfter));
+        for (OfferingSubmissionJob job : staleJobs) {
+            log.warn("Submission job {} made no progress since {}, marking it as failed", job.getId(),
+                    job.getLastUpdateDate());
+            try {
+                finishJob(job, OfferingSubmissionJobStatus.FAILED, INTERNAL_SERVER_ERROR.value(),
+                        "Submission did not complete in time. The offering may still have been stored, check the " +
+                                "offerings of the provider before submitting it again.");
+            } catch (OptimisticLockingFailureException e) {
+                log.info("Submission job {} progressed in the meantime, not marking it as failed", job.getId());
+            }
+        }
+    }
+
+    /**
+     * Given an offeringDto containing a self-description, create a job that creates the offering in the background.
+     *
+     * @param serviceOfferingDto self-description of the offering
+     * @param authToken authToken to access further backend services
+     * @return the pending job
+     */
+    public OfferingSubmissionJobDto submitAddServiceOffering(ServiceOfferingDto serviceOfferingDto, String authToken) {
+        return submit(serviceOfferingDto, null,
+                () -> serviceOfferingsService.addServiceOffering(serviceOfferingDto, authToken));
+    }
+
+    /**
+     * Given an offeringDto containing a self-description and the id of an existing offering, create a job that
+     * updates the offering in the background.
+     *
+     * @param serviceOfferingDto dto with self-description of the offering
+     * @param offeringId id of the offering to update
+     * @param authToken authToken to access further backend services
+     * @return the pending job
+     */
+    public OfferingSubmissionJobDto submitUpdateServiceOffering(ServiceOfferingDto serviceOfferingDto,
+                                                                String offeringId, String authToken) {
+        return submit(serviceOfferingDto, offeringId,
+                () -> serviceOfferingsService.updateServiceOffering(serviceOfferingDto, offeringId, authToken));
+    }
+
+    /**
+     * Attempt to find a submission job by the given id.
+     *
+     * @param jobId id of the job
+     * @return found job
+     */
+    public OfferingSubmissionJobDto getJob(String jobId) {
+        return offeringSubmissionJobRepository.findById(jobId)
+                .map(this::toDto)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "No submission job with this id was found."));
+    }
+
+    private OfferingSubmissionJobDto submit(ServiceOfferingDto serviceOfferingDto, String offeringId,
+                                            Supplier<SelfDescriptionMeta> submission) {
+        OfferingSubmissionJob job = new OfferingSubmissionJob();
+        job.setIssuer(serviceOfferingDto.getSelfDescription()
+                .findFirstCredentialSubjectByType(GxServiceOfferingCredentialSubject.class)
+                .getProvidedBy().getId());
+        job.setOfferingId(offeringId);
+        OfferingSubmissionJob savedJob = offeringSubmissionJobRepository.save(job);
+        OfferingSubmissionJobDto pendingJob = toDto(savedJob);
+
+        try {
+            offeringJobExecutor.execute(() -> runJob(savedJob, submission));
+        } catch (TaskRejectedException e) {
+            finishJob(savedJob, OfferingSubmissionJobStatus.FAILED, SERVICE_UNAVAILABLE.value(),
+                    "Too many pending submissions.");
+            throw new ResponseStatusException(SERVICE_UNAVAILABLE, "Too many pending submissions, try again later.");
+        }
+
+        return pendingJob;
+    }
+
+    private void runJob(OfferingSubmissionJob pendingJob, Supplier<SelfDescriptionMeta> submission) {
+        OfferingSubmissionJob job;
+        try {
+            job = updateJob(pendingJob, OfferingSubmissionJobStatus.RUNNING);
+        } catch (OptimisticLockingFailureException e) {
+            // the job waited too long in the queue and has already been given up on
+            log.info("Submission job {} was marked as failed before it started, skipping it", pendingJob.getId());
+            return;
+        }
+
+        try {
+            completeJob(job, submission);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Submission job {} finished as {} with offering {} after it had been marked as failed",
+                    job.getId(), job.getStatus(), job.getOfferingId());
+        }
+    }
+
+    private void completeJob(OfferingSubmissionJob job, Supplier<SelfDescriptionMeta> submission) {
+        SelfDescriptionMeta response;
+        try {
+            response = submission.get();
+        } catch (ResponseStatusException e) {
+            finishJob(job, OfferingSubmissionJobStatus.FAILED, e.getStatusCode().value(), e.getReason());
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Submission job {} failed: {}", job.getId(), e.getMessage());
+            finishJob(job, OfferingSubmissionJobStatus.FAILED, INTERNAL_SERVER_ERROR.value(), "Unknown error");
+            return;
+        }
+        job.setOfferingId(response.getId());
+        job.setSdHash(response.getSdHash());
+        updateJob(job, OfferingSubmissionJobStatus.SUCCEEDED);
+    }
+
+    private void finishJob(OfferingSubmissionJob job, OfferingSubmissionJobStatus status,
+                           int errorStatus, String errorMessage) {
+        job.setErrorStatus(errorStatus);
+        job.setErrorMessage(errorMessage == null ? null
+                : errorMessage.substring(0, Math.min(500, errorMessage.length())));
+        updateJob(job, status);
+    }
+
+    /**
+     * Store the new status of the job, fails with an OptimisticLockingFailureException if the job has been changed
+     * elsewhere since it was loaded.
+     */
+    private OfferingSubmissionJob updateJob(OfferingSubmissionJob job, OfferingSubmissionJobStatus status) {
+        job.setStatus(status);
+        job.setLastUpdateDate(OffsetDateTime.now(ZoneOffset.UTC));
+        return offeringSubmissionJobRepository.save(job);
+    }
+
+    private OfferingSubmissionJobDto toDto(OfferingSubmissionJob job) {
+        return new OfferingSubmissionJobDto(job.getId(), job.getStatus(), job.getOfferingId(), job.getSdHash(),
+                job.getErrorStatus(), job.getErrorMessage(), job.getCreationDate(), job.getLastUpdateDate());
+    }
+}
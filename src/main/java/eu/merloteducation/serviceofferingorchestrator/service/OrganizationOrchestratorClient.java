@@ -17,6 +17,8 @@
 package eu.merloteducation.serviceofferingorchestrator.service;
 
 import eu.merloteducation.modelslib.api.organization.MerlotParticipantDto;
+import eu.merloteducation.serviceofferingorchestrator.config.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.service.annotation.GetExchange;
@@ -24,6 +26,7 @@ import org.springframework.web.service.annotation.GetExchange;
 import java.util.Map;
 
 public interface OrganizationOrchestratorClient {
+    @Cacheable(cacheNames = CacheConfig.PARTICIPANT_CACHE)
     @GetExchange("/organization/{orgaId}")
     MerlotParticipantDto getOrganizationDetails(@PathVariable String orgaId);
 
@@ -0,0 +1,38 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.service;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Predicate;
+
+/**
+ * Decides which exceptions of remote calls count as failures for the circuit breakers. Client errors such as
+ * an unknown id are answers of a healthy service, hence only server errors, timeouts and connection problems count.
+ */
+public class RemoteCallFailurePredicate implements Predicate<Throwable> {
+    @Override
+    public boolean test(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException e) {
+            return e.getStatusCode().is5xxServerError();
+        }
+        // errors already mapped by this service (e.g. failed signatures) and rejected calls say nothing about the health
+        return !(throwable instanceof ResponseStatusException || throwable instanceof BulkheadFullException);
+    }
+}
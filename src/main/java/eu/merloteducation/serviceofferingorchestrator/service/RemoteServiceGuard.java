@@ -0,0 +1,133 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+@Component
+@Slf4j
+public class RemoteServiceGuard {
+
+    public static final String CATALOG = "catalog";
+    public static final String WIZARD_API = "wizard-api";
+    public static final String ORGANIZATIONS_ORCHESTRATOR = "organizations-orchestrator";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+
+    public RemoteServiceGuard(@Autowired CircuitBreakerRegistry circuitBreakerRegistry,
+                              @Autowired BulkheadRegistry bulkheadRegistry,
+                              @Autowired MeterRegistry meterRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Given the name of a remote service and a blocking call to it, perform the call within the circuit breaker
+     * and the bulkhead of this service. If the circuit breaker is open or the bulkhead is full, the call is not
+     * performed and fails with 503. The duration of the call is recorded in the remote.call timer and failed
+     * calls are counted in remote.call.errors, both tagged by service, operation and outcome.
+     *
+     * @param remoteService name of the remote service
+     * @param operation     name of the called operation
+     * @param call          call to the remote service
+     * @return result of the call
+     */
+    public <T> T call(String remoteService, String operation, Supplier<T> call) {
+        Supplier<T> guardedCall = CircuitBreaker.decorateSupplier(circuitBreakerRegistry.circuitBreaker(remoteService),
+                Bulkhead.decorateSupplier(bulkheadRegistry.bulkhead(remoteService), call));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = guardedCall.get();
+            outcome = "success";
+            return result;
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            outcome = "rejected";
+            throw unavailable(remoteService, e);
+        } finally {
+            sample.stop(meterRegistry.timer("remote.call",
+                    "service", remoteService, "operation", operation, "outcome", outcome));
+            if (!outcome.equals("success")) {
+                meterRegistry.counter("remote.call.errors",
+                        "service", remoteService, "operation", operation, "outcome", outcome).increment();
+            }
+        }
+    }
+
+    /**
+     * Given the name of a remote service and a blocking call to it without result, perform the call within the
+     * circuit breaker and the bulkhead of this service.
+     *
+     * @param remoteService name of the remote service
+     * @param operation     name of the called operation
+     * @param call          call to the remote service
+     */
+    public void run(String remoteService, String operation, Runnable call) {
+        call(remoteService, operation, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Given the name of a remote service, create a WebClient filter that performs all exchanges within the circuit
+     * breaker and the bulkhead of this service. Server errors are raised within the filter so that they are
+     * recorded by the circuit breaker.
+     *
+     * @param remoteService name of the remote service
+     * @return filter to register on the WebClient of the remote service
+     */
+    public ExchangeFilterFunction exchangeFilter(String remoteService) {
+        return (request, next) -> next.exchange(request)
+                .flatMap(response -> response.statusCode().is5xxServerError()
+                        ? response.createException().flatMap(e -> Mono.<ClientResponse>error(e))
+                        : Mono.just(response))
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(remoteService)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(remoteService)))
+                .onErrorMap(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException,
+                        e -> unavailable(remoteService, e));
+    }
+
+    private ResponseStatusException unavailable(String remoteService, Throwable cause) {
+        log.warn("Call to {} rejected: {}", remoteService, cause.getMessage());
+        return new ResponseStatusException(SERVICE_UNAVAILABLE,
+                "The " + remoteService + " is currently unavailable, please try again later.");
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.service;
+
+import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingExtension;
+import eu.merloteducation.serviceofferingorchestrator.models.events.ServiceOfferingChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the second-level caches of service offering extensions consistent across all orchestrator instances.
+ * Every write to an extension is broadcast on the cloud bus once its transaction has committed, and the other
+ * instances drop the extension as well as all cached query results in turn.
+ */
+@Component
+@Slf4j
+public class ServiceOfferingCacheInvalidator implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener, PostCollectionUpdateEventListener {
+
+    private static final String ASSOCIATED_CONTRACTS_ROLE =
+            ServiceOfferingExtension.class.getName() + ".associatedContractIds";
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final BusProperties busProperties;
+    private final Destination.Factory destinationFactory;
+    private final boolean secondLevelCacheEnabled;
+
+    public ServiceOfferingCacheInvalidator(@Autowired EntityManagerFactory entityManagerFactory,
+                                           @Autowired ApplicationEventPublisher applicationEventPublisher,
+                                           @Autowired BusProperties busProperties,
+                                           @Autowired Destination.Factory destinationFactory,
+                                           @Value("${second-level-cache.enabled}") boolean secondLevelCacheEnabled) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.busProperties = busProperties;
+        this.destinationFactory = destinationFactory;
+        this.secondLevelCacheEnabled = secondLevelCacheEnabled;
+
+        if (secondLevelCacheEnabled) {
+            EventListenerRegistry eventListenerRegistry = entityManagerFactory
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .getService(EventListenerRegistry.class);
+            eventListenerRegistry.appendListeners(EventType.POST_INSERT, this);
+            eventListenerRegistry.appendListeners(EventType.POST_UPDATE, this);
+            eventListenerRegistry.appendListeners(EventType.POST_DELETE, this);
+            eventListenerRegistry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        }
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof ServiceOfferingExtension extension) {
+            publishAfterCommit(extension.getId());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof ServiceOfferingExtension extension) {
+            publishAfterCommit(extension.getId());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof ServiceOfferingExtension extension) {
+            publishAfterCommit(extension.getId());
+        }
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        if (event.getAffectedOwnerOrNull() instanceof ServiceOfferingExtension extension) {
+            publishAfterCommit(extension.getId());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * Notify all instances that any offering may have changed, e.g. after a bulk update which does not pass through
+     * the entity lifecycle.
+     */
+    public void allOfferingsChanged() {
+        if (secondLevelCacheEnabled) {
+            publishAfterCommit(null);
+        }
+    }
+
+    /**
+     * Listen for offering changes that were broadcast on the cloud bus by other instances of this service.
+     * In that case, drop the cached extension and all cached query results.
+     *
+     * @param serviceOfferingChangedEvent offering changed event details
+     */
+    @EventListener
+    public void serviceOfferingChangedListener(ServiceOfferingChangedEvent serviceOfferingChangedEvent) {
+        // the local cache is already maintained by hibernate itself
+        if (!secondLevelCacheEnabled || busProperties.getId().equals(serviceOfferingChangedEvent.getOriginService())) {
+            return;
+        }
+
+        String offeringId = serviceOfferingChangedEvent.getOfferingId();
+        Cache cache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+        if (offeringId == null) {
+            cache.evictEntityData(ServiceOfferingExtension.class);
+            cache.evictCollectionData(ASSOCIATED_CONTRACTS_ROLE);
+        } else {
+            cache.evictEntityData(ServiceOfferingExtension.class, offeringId);
+            cache.evictCollectionData(ASSOCIATED_CONTRACTS_ROLE, offeringId);
+        }
+        cache.evictQueryRegions();
+    }
+
+    private void publishAfterCommit(String offeringId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(offeringId);
+                }
+            });
+        } else {
+            publish(offeringId);
+        }
+    }
+
+    private void publish(String offeringId) {
+        try {
+            applicationEventPublisher.publishEvent(new ServiceOfferingChangedEvent(this, busProperties.getId(),
+                    destinationFactory.getDestination(null), offeringId));
+        } catch (RuntimeException e) {
+            log.warn("Could not broadcast change of service offering with ID {}, other instances will refresh it " +
+                    "once their cache entry expires: {}", offeringId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.service;
+
+import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingExtension;
+import eu.merloteducation.serviceofferingorchestrator.repositories.ServiceOfferingExtensionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * Loads service offering extensions by id and remembers the result for the rest of the current web request, so that
+ * the authorization check and the service method handling the same request only query the database once.
+ * Outside of a web request (e.g. in submission jobs or the outbox relay) every lookup goes to the repository.
+ */
+@Component
+public class ServiceOfferingExtensionLookup {
+
+    private static final String ATTRIBUTE_PREFIX = ServiceOfferingExtensionLookup.class.getName() + ".";
+
+    private final ServiceOfferingExtensionRepository serviceOfferingExtensionRepository;
+
+    public ServiceOfferingExtensionLookup(
+            @Autowired ServiceOfferingExtensionRepository serviceOfferingExtensionRepository) {
+        this.serviceOfferingExtensionRepository = serviceOfferingExtensionRepository;
+    }
+
+    /**
+     * Find the extension with the given id, reusing the result of an earlier lookup within the same request.
+     *
+     * @param id id of the offering
+     * @return found extension, if any
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<ServiceOfferingExtension> findById(String id) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return serviceOfferingExtensionRepository.findById(id);
+        }
+
+        String attributeName = ATTRIBUTE_PREFIX + id;
+        Optional<ServiceOfferingExtension> extension = (Optional<ServiceOfferingExtension>)
+                requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+        if (extension == null) {
+            extension = serviceOfferingExtensionRepository.findById(id);
+            requestAttributes.setAttribute(attributeName, extension, RequestAttributes.SCOPE_REQUEST);
+        }
+        return extension;
+    }
+
+    /**
+     * Forget a previously looked up extension, e.g. after it was removed within the current request.
+     *
+     * @param id id of the offering
+     */
+    public void evict(String id) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(ATTRIBUTE_PREFIX + id, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
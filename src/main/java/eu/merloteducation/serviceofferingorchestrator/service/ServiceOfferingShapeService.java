@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.service;
+
+import eu.merloteducation.gxfscataloglibrary.service.GxfsWizardApiService;
+import eu.merloteducation.serviceofferingorchestrator.models.dto.CachedShape;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@Slf4j
+public class ServiceOfferingShapeService {
+
+    private final GxfsWizardApiService gxfsWizardApiService;
+    private final RemoteServiceGuard remoteServiceGuard;
+
+    private final Map<ShapeKey, CachedShape> shapes = new ConcurrentHashMap<>();
+
+    public ServiceOfferingShapeService(@Autowired GxfsWizardApiService gxfsWizardApiService,
+                                       @Autowired RemoteServiceGuard remoteServiceGuard) {
+        this.gxfsWizardApiService = gxfsWizardApiService;
+        this.remoteServiceGuard = remoteServiceGuard;
+    }
+
+    /**
+     * Given an ecosystem and a shape name, return the shape from the local cache, loading it from the wizard API
+     * on first access.
+     *
+     * @param ecosystem ecosystem of the shape
+     * @param name      file name of the shape
+     * @return cached shape
+     */
+    public CachedShape getShape(String ecosystem, String name) {
+        return shapes.computeIfAbsent(new ShapeKey(ecosystem, name), this::loadShape);
+    }
+
+    /**
+     * Periodically reload all cached shapes from the wizard API. If a shape cannot be loaded,
+     * the previously cached version is kept.
+     */
+    @Scheduled(fixedDelayString = "${shapes.refresh-interval}", initialDelayString = "${shapes.refresh-interval}")
+    public void refreshShapes() {
+        shapes.keySet().forEach(key -> {
+            try {
+                shapes.put(key, loadShape(key));
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh shape {} of ecosystem {}, keeping the cached version: {}",
+                        key.name(), key.ecosystem(), e.getMessage());
+            }
+        });
+    }
+
+    private CachedShape loadShape(ShapeKey key) {
+        byte[] body = remoteServiceGuard.call(RemoteServiceGuard.WIZARD_API, "getShapeByName",
+                        () -> gxfsWizardApiService.getShapeByName(key.ecosystem(), key.name()))
+                .getBytes(StandardCharsets.UTF_8);
+        return new CachedShape(body, gzip(body), sha256(body));
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record ShapeKey(String ecosystem, String name) {
+    }
+}
@@ -24,7 +24,6 @@ import eu.merloteducation.gxfscataloglibrary.models.credentials.ExtendedVerifiab
 import eu.merloteducation.gxfscataloglibrary.models.credentials.ExtendedVerifiablePresentation;
 import eu.merloteducation.gxfscataloglibrary.models.exception.CredentialPresentationException;
 import eu.merloteducation.gxfscataloglibrary.models.exception.CredentialSignatureException;
-import eu.merloteducation.gxfscataloglibrary.models.query.GXFSQueryLegalNameItem;
 import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.GXFSCatalogListResponse;
 import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.PojoCredentialSubject;
 import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.SelfDescriptionItem;
@@ -41,8 +40,13 @@ import eu.merloteducation.modelslib.api.organization.OrganisationSignerConfigDto
 import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingBasicDto;
 import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingDto;
 import eu.merloteducation.serviceofferingorchestrator.mappers.ServiceOfferingMapper;
+import eu.merloteducation.serviceofferingorchestrator.models.dto.ServiceOfferingBulkResult;
+import eu.merloteducation.serviceofferingorchestrator.models.dto.ServiceOfferingCursorPage;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.CatalogOutboxOperation;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.SelfDescriptionSummary;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingExtension;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingState;
+import eu.merloteducation.serviceofferingorchestrator.repositories.SelfDescriptionSummaryRepository;
 import eu.merloteducation.serviceofferingorchestrator.repositories.ServiceOfferingExtensionRepository;
 import io.netty.util.internal.StringUtil;
 import jakarta.transaction.Transactional;
@@ -51,16 +55,35 @@ import org.jsoup.Jsoup;
 import org.jsoup.safety.Safelist;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -73,21 +96,51 @@ public class ServiceOfferingsService {
     private final ServiceOfferingMapper serviceOfferingMapper;
     private final GxfsCatalogService gxfsCatalogService;
     private final ServiceOfferingExtensionRepository serviceOfferingExtensionRepository;
+    private final ServiceOfferingExtensionLookup serviceOfferingExtensionLookup;
+    private final SelfDescriptionSummaryRepository selfDescriptionSummaryRepository;
     private final ObjectMapper objectMapper;
-    private final String merlotDomain;
+    private final ThreadPoolTaskExecutor remoteCallExecutor;
+    private final ThreadPoolTaskExecutor offeringSubmissionExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final FederationTermsAndConditionsHolder federationTermsAndConditionsHolder;
+    private final CatalogOutboxRelay catalogOutboxRelay;
+    private final RemoteServiceGuard remoteServiceGuard;
+    private final SignerLegalNameResolver signerLegalNameResolver;
+    private final Duration offeringDetailsTimeout;
+    private final int maxBulkSize;
 
     public ServiceOfferingsService(@Autowired OrganizationOrchestratorClient organizationOrchestratorClient,
                                    @Autowired ServiceOfferingMapper serviceOfferingMapper,
                                    @Autowired GxfsCatalogService gxfsCatalogService,
                                    @Autowired ServiceOfferingExtensionRepository serviceOfferingExtensionRepository,
+                                   @Autowired ServiceOfferingExtensionLookup serviceOfferingExtensionLookup,
+                                   @Autowired SelfDescriptionSummaryRepository selfDescriptionSummaryRepository,
                                    @Autowired ObjectMapper objectMapper,
-                                   @Value("${merlot-domain}") String merlotDomain) {
+                                   @Autowired ThreadPoolTaskExecutor remoteCallExecutor,
+                                   @Autowired ThreadPoolTaskExecutor offeringSubmissionExecutor,
+                                   @Autowired PlatformTransactionManager transactionManager,
+                                   @Autowired FederationTermsAndConditionsHolder federationTermsAndConditionsHolder,
+                                   @Autowired CatalogOutboxRelay catalogOutboxRelay,
+                                   @Autowired RemoteServiceGuard remoteServiceGuard,
+                                   @Autowired SignerLegalNameResolver signerLegalNameResolver,
+                                   @Value("${offering-details.timeout}") Duration offeringDetailsTimeout,
+                                   @Value("${offering-submission.max-bulk-size}") int maxBulkSize) {
         this.organizationOrchestratorClient = organizationOrchestratorClient;
         this.serviceOfferingMapper = serviceOfferingMapper;
         this.gxfsCatalogService = gxfsCatalogService;
         this.serviceOfferingExtensionRepository = serviceOfferingExtensionRepository;
+        this.serviceOfferingExtensionLookup = serviceOfferingExtensionLookup;
+        this.selfDescriptionSummaryRepository = selfDescriptionSummaryRepository;
         this.objectMapper = objectMapper;
-        this.merlotDomain = merlotDomain;
+        this.remoteCallExecutor = remoteCallExecutor;
+        this.offeringSubmissionExecutor = offeringSubmissionExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.federationTermsAndConditionsHolder = federationTermsAndConditionsHolder;
+        this.catalogOutboxRelay = catalogOutboxRelay;
+        this.remoteServiceGuard = remoteServiceGuard;
+        this.signerLegalNameResolver = signerLegalNameResolver;
+        this.offeringDetailsTimeout = offeringDetailsTimeout;
+        this.maxBulkSize = maxBulkSize;
     }
 
     private static final String OFFERING_START = "urn:uuid:";
@@ -98,12 +151,8 @@ public class ServiceOfferingsService {
     private void deleteOffering(ServiceOfferingExtension extension) {
         extension.delete();
         serviceOfferingExtensionRepository.save(extension);
-
-        try {
-            gxfsCatalogService.revokeSelfDescriptionByHash(extension.getCurrentSdHash());
-        } catch (WebClientResponseException e) {
-            handleCatalogError(e);
-        }
+        selfDescriptionSummaryRepository.deleteById(extension.getCurrentSdHash());
+        catalogOutboxRelay.enqueue(CatalogOutboxOperation.REVOKE, extension.getCurrentSdHash());
     }
 
     @Transactional(rollbackOn = {ResponseStatusException.class})
@@ -112,15 +161,19 @@ public class ServiceOfferingsService {
             throw new ResponseStatusException(UNPROCESSABLE_ENTITY, "Invalid state transition requested.");
         }
         serviceOfferingExtensionRepository.delete(extension);
-        deleteServiceOfferingFromCatalog(extension.getCurrentSdHash());
+        serviceOfferingExtensionLookup.evict(extension.getId());
+        selfDescriptionSummaryRepository.deleteById(extension.getCurrentSdHash());
+        catalogOutboxRelay.enqueue(CatalogOutboxOperation.DELETE, extension.getCurrentSdHash());
     }
 
     private SelfDescriptionMeta getSelfDescriptionByOfferingExtension
             (ServiceOfferingExtension extension) {
         SelfDescriptionMeta sdMeta = null;
         try {
-            GXFSCatalogListResponse<SelfDescriptionItem> response = gxfsCatalogService.getSelfDescriptionsByIds(new String[]{extension.getId()},
-                    new SelfDescriptionStatus[]{SelfDescriptionStatus.ACTIVE, SelfDescriptionStatus.REVOKED});
+            GXFSCatalogListResponse<SelfDescriptionItem> response = remoteServiceGuard.call(RemoteServiceGuard.CATALOG,
+                    "getSelfDescriptionsByIds",
+                    () -> gxfsCatalogService.getSelfDescriptionsByIds(new String[]{extension.getId()},
+                            new SelfDescriptionStatus[]{SelfDescriptionStatus.ACTIVE, SelfDescriptionStatus.REVOKED}));
             if (response.getTotalCount() != 1
                     || !response.getItems().get(0).getMeta().getId().startsWith(OFFERING_START)) {
                 throw new ResponseStatusException(NOT_FOUND, OFFERING_NOT_FOUND);
@@ -132,34 +185,96 @@ public class ServiceOfferingsService {
         return sdMeta;
     }
 
-    private List<SelfDescriptionMeta> getSelfDescriptionsByOfferingExtensionList
-            (Page<ServiceOfferingExtension> extensions, boolean showRevoked) {
-        String[] extensionHashes = extensions.stream().map(ServiceOfferingExtension::getCurrentSdHash)
-                .collect(Collectors.toSet()).toArray(String[]::new);
+    private Map<String, SelfDescriptionSummary> getSelfDescriptionSummariesByOfferingExtensionList
+            (List<ServiceOfferingExtension> extensions, boolean showRevoked) {
+        Map<String, ServiceOfferingExtension> extensionMap = extensions.stream()
+                .collect(Collectors.toMap(ServiceOfferingExtension::getCurrentSdHash, Function.identity()));
 
-        if (extensionHashes.length == 0) {
-            return Collections.emptyList();
+        if (extensionMap.isEmpty()) {
+            return Collections.emptyMap();
         }
 
+        // serve as much as possible from the local read model
+        List<SelfDescriptionSummary> summaries =
+                new ArrayList<>(selfDescriptionSummaryRepository.findAllById(extensionMap.keySet()));
+
+        Set<String> missingHashes = new HashSet<>(extensionMap.keySet());
+        summaries.forEach(summary -> missingHashes.remove(summary.getSdHash()));
+
+        // only query the catalog for offerings that are not yet known locally (e.g. stored before the read model existed)
+        if (!missingHashes.isEmpty()) {
+            List<SelfDescriptionSummary> catalogSummaries = getSelfDescriptionsByHashes(missingHashes, showRevoked)
+                    .stream().map(serviceOfferingMapper::selfDescriptionMetaToSelfDescriptionSummary).toList();
+            storeSelfDescriptionSummaries(catalogSummaries.stream()
+                    .filter(summary -> hasActiveSelfDescription(extensionMap.get(summary.getSdHash())))
+                    .toList());
+            summaries.addAll(catalogSummaries);
+        }
+
+        if (summaries.size() != extensions.size()) {
+            log.warn("Inconsistent state detected, there are service offerings in the local database that are not in the catalog.");
+        }
+
+        return summaries.stream()
+                .collect(Collectors.toMap(SelfDescriptionSummary::getSdHash, Function.identity()));
+    }
+
+    private List<ServiceOfferingBasicDto> mapOfferingPage(List<ServiceOfferingExtension> extensions,
+                                                          Map<String, SelfDescriptionSummary> summaries,
+                                                          Function<String, MerlotParticipantDto> providerOrgaByIssuer) {
+        // the page of extensions is already in the requested order, so simply follow it instead of sorting again
+        List<ServiceOfferingBasicDto> models = new ArrayList<>(extensions.size());
+        for (ServiceOfferingExtension extension : extensions) {
+            SelfDescriptionSummary summary = summaries.get(extension.getCurrentSdHash());
+            if (summary != null) {
+                models.add(serviceOfferingMapper.selfDescriptionSummaryToServiceOfferingBasicDto(
+                        summary, extension, providerOrgaByIssuer.apply(extension.getIssuer())));
+            }
+        }
+        return models;
+    }
+
+    private List<SelfDescriptionMeta> getSelfDescriptionsByHashes(Set<String> sdHashes, boolean showRevoked) {
+        String[] extensionHashes = sdHashes.toArray(String[]::new);
+
         GXFSCatalogListResponse<SelfDescriptionItem> selfDescriptionsResponse = null;
         try {
             if (showRevoked) {
-                selfDescriptionsResponse = gxfsCatalogService.getSelfDescriptionsByHashes(extensionHashes,
-                        new SelfDescriptionStatus[]{SelfDescriptionStatus.ACTIVE, SelfDescriptionStatus.REVOKED});
+                selfDescriptionsResponse = remoteServiceGuard.call(RemoteServiceGuard.CATALOG,
+                        "getSelfDescriptionsByHashes",
+                        () -> gxfsCatalogService.getSelfDescriptionsByHashes(extensionHashes,
+                                new SelfDescriptionStatus[]{SelfDescriptionStatus.ACTIVE, SelfDescriptionStatus.REVOKED}));
             } else {
-                selfDescriptionsResponse = gxfsCatalogService.getSelfDescriptionsByHashes(extensionHashes);
+                selfDescriptionsResponse = remoteServiceGuard.call(RemoteServiceGuard.CATALOG,
+                        "getSelfDescriptionsByHashes",
+                        () -> gxfsCatalogService.getSelfDescriptionsByHashes(extensionHashes));
             }
         } catch (WebClientResponseException e) {
             handleCatalogError(e);
         }
 
-        if (selfDescriptionsResponse.getTotalCount() != extensions.getNumberOfElements()) {
-            log.warn("Inconsistent state detected, there are service offerings in the local database that are not in the catalog.");
-        }
-
         return selfDescriptionsResponse.getItems().stream().map(SelfDescriptionItem::getMeta).toList();
     }
 
+    private boolean hasActiveSelfDescription(ServiceOfferingExtension extension) {
+        // deleted and archived offerings are revoked in the catalog and should not be kept in the read model
+        return extension != null
+                && extension.getState() != ServiceOfferingState.DELETED
+                && extension.getState() != ServiceOfferingState.ARCHIVED;
+    }
+
+    private void storeSelfDescriptionSummaries(List<SelfDescriptionSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        try {
+            selfDescriptionSummaryRepository.saveAll(summaries);
+        } catch (DataAccessException e) {
+            // the read model is only a cache of the catalog, concurrent backfills must not fail the request
+            log.warn("Could not store self-description summaries: {}", e.getMessage());
+        }
+    }
+
     private void handleCatalogError(WebClientResponseException e) {
         log.warn("Error in communication with catalog: {}", e.getResponseBodyAsString());
         String messageText;
@@ -179,33 +294,29 @@ public class ServiceOfferingsService {
      * @param id                 id of the offering
      * @param targetState        requested target state
      */
+    @Transactional(rollbackOn = {ResponseStatusException.class})
     public void transitionServiceOfferingExtension(String id, ServiceOfferingState targetState) {
-        if (!serviceOfferingExtensionRepository.existsById(id)) {
-            throw new ResponseStatusException(NOT_FOUND, OFFERING_NOT_FOUND);
-        }
+        ServiceOfferingExtension extension = serviceOfferingExtensionLookup.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, OFFERING_NOT_FOUND));
 
-        ServiceOfferingExtension extension = serviceOfferingExtensionRepository.findById(id).orElse(null);
-        if (extension != null) {
-            try {
-                switch (targetState) {
-                    case IN_DRAFT -> extension.inDraft();
-                    case RELEASED -> extension.release();
-                    case REVOKED -> extension.revoke();
-                    case DELETED, ARCHIVED -> deleteOffering(extension);
-                    case PURGED -> purgeOffering(extension);
-                }
-            } catch (ResponseStatusException ex) {
-                throw ex;
-            } catch (Exception e) {
-                throw new ResponseStatusException(UNPROCESSABLE_ENTITY, "Invalid state transition requested.");
-            }
-            if (targetState != ServiceOfferingState.PURGED
-                && targetState != ServiceOfferingState.DELETED
-                && targetState != ServiceOfferingState.ARCHIVED) {
-                serviceOfferingExtensionRepository.save(extension);
+        try {
+            switch (targetState) {
+                case IN_DRAFT -> extension.inDraft();
+                case RELEASED -> extension.release();
+                case REVOKED -> extension.revoke();
+                case DELETED, ARCHIVED -> deleteOffering(extension);
+                case PURGED -> purgeOffering(extension);
             }
+        } catch (ResponseStatusException ex) {
+            throw ex;
+        } catch (Exception e) {
+            throw new ResponseStatusException(UNPROCESSABLE_ENTITY, "Invalid state transition requested.");
+        }
+        if (targetState != ServiceOfferingState.PURGED
+            && targetState != ServiceOfferingState.DELETED
+            && targetState != ServiceOfferingState.ARCHIVED) {
+            serviceOfferingExtensionRepository.save(extension);
         }
-
     }
 
     /**
@@ -218,27 +329,82 @@ public class ServiceOfferingsService {
         // basic input sanitization
         id = Jsoup.clean(id, Safelist.basic());
 
-        ServiceOfferingExtension extension = serviceOfferingExtensionRepository.findById(id).orElse(null);
+        ServiceOfferingExtension extension = serviceOfferingExtensionLookup.findById(id).orElse(null);
 
         if (extension == null) {
             throw new NoSuchElementException(OFFERING_NOT_FOUND);
         }
 
-        SelfDescriptionMeta sdMeta = getSelfDescriptionByOfferingExtension(extension);
-        // if we do not get exactly one item or the id doesn't start with ServiceOffering, we did not find the correct item
+        // the provider details only depend on the local extension, hence they can be fetched while querying the catalog
+        CompletableFuture<SelfDescriptionMeta> sdMetaFuture = supplyRemoteCall(
+                () -> getSelfDescriptionByOfferingExtension(extension));
+        CompletableFuture<String> signerLegalNameFuture = sdMetaFuture.thenApplyAsync(
+                this::getSignerLegalName, remoteCallExecutor);
+        CompletableFuture<MerlotParticipantDto> providerDetailsFuture = supplyRemoteCall(
+                () -> organizationOrchestratorClient.getOrganizationDetails(extension.getIssuer()));
+
+        return awaitRemoteCalls(CompletableFuture.allOf(signerLegalNameFuture, providerDetailsFuture)
+                .thenApply(ignored -> serviceOfferingMapper.selfDescriptionMetaToServiceOfferingDto(
+                        sdMetaFuture.join(),
+                        extension,
+                        providerDetailsFuture.join(),
+                        signerLegalNameFuture.join())),
+                sdMetaFuture, signerLegalNameFuture, providerDetailsFuture);
+    }
 
+    private String getSignerLegalName(SelfDescriptionMeta sdMeta) {
         String signerLegalName = null;
         try {
             signerLegalName = getSignerLegalNameFromCatalog(sdMeta.getContent());
         } catch (WebClientResponseException e) {
             handleCatalogError(e);
         }
+        return signerLegalName;
+    }
+
+    private <T> CompletableFuture<T> supplyRemoteCall(Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(call, remoteCallExecutor);
+        } catch (RejectedExecutionException e) {
+            throw remoteCallsRejected(e);
+        }
+    }
 
-        return serviceOfferingMapper.selfDescriptionMetaToServiceOfferingDto(
-                sdMeta,
-                extension,
-                organizationOrchestratorClient.getOrganizationDetails(extension.getIssuer()),
-                signerLegalName);
+    private ResponseStatusException remoteCallsRejected(RejectedExecutionException cause) {
+        log.warn("Remote call rejected as the remote call executor is saturated: {}", cause.getMessage());
+        return new ResponseStatusException(SERVICE_UNAVAILABLE,
+                "Too many requests to other services at the moment, please try again later.");
+    }
+
+    private <T> T awaitRemoteCalls(CompletableFuture<T> remoteCalls, CompletableFuture<?>... stages) {
+        try {
+            return remoteCalls.get(offeringDetailsTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // cancelling keeps queued calls and dependent stages from starting at all, whereas calls that are already
+            // running are not interrupted and end at the latest once the response timeout of the http client
+            // (http-client.read-timeout) has elapsed
+            remoteCalls.cancel(false);
+            for (CompletableFuture<?> stage : stages) {
+                stage.cancel(false);
+            }
+            throw new ResponseStatusException(GATEWAY_TIMEOUT, "Service offering details could not be fetched in time.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(SERVICE_UNAVAILABLE, "Fetching service offering details was interrupted.");
+        } catch (ExecutionException e) {
+            // rethrow the original exception of the failed remote call, unwrapping the future's exception chain
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RejectedExecutionException rejectedExecutionException) {
+                throw remoteCallsRejected(rejectedExecutionException);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ResponseStatusException(INTERNAL_SERVER_ERROR, "Unknown error");
+        }
     }
 
     /**
@@ -250,28 +416,106 @@ public class ServiceOfferingsService {
     public Page<ServiceOfferingBasicDto> getAllPublicServiceOfferings(Pageable pageable) {
         Page<ServiceOfferingExtension> extensions = serviceOfferingExtensionRepository
                 .findAllByState(ServiceOfferingState.RELEASED, pageable);
-        Map<String, ServiceOfferingExtension> extensionMap = extensions.stream()
-                .collect(Collectors.toMap(ServiceOfferingExtension::getCurrentSdHash, Function.identity()));
 
-        List<SelfDescriptionMeta> items = getSelfDescriptionsByOfferingExtensionList(extensions, false);
-
-        // extract the items from the SelfDescriptionsResponse and map them to Dto instances
-        List<ServiceOfferingBasicDto> models = items.stream()
-                .map(item -> serviceOfferingMapper.selfDescriptionMetaToServiceOfferingBasicDto(
-                        item,
-                        extensionMap.get(item.getSdHash()),
-                        organizationOrchestratorClient
-                                .getOrganizationDetails(extensionMap.get(item.getSdHash())
-                                        .getIssuer())))
-                .sorted(Comparator.comparing(offer -> offer.getCreationDate() != null
-                                ? (LocalDateTime.parse(offer.getCreationDate(), DateTimeFormatter.ISO_DATE_TIME))
-                                : LocalDateTime.MIN,
-                        Comparator.reverseOrder()))  // since the catalog does not respect the order of the hashes, we need to reorder again
-                .toList();
+        List<ServiceOfferingBasicDto> models = mapPublicOfferingPage(extensions.getContent());
 
         return new PageImpl<>(models, pageable, extensions.getTotalElements());
     }
 
+    /**
+     * Given a cursor and a page size, find the next offerings that are publicly visible (released),
+     * ordered by descending creation date.
+     *
+     * @param cursor         cursor of the previous page or null for the first page
+     * @param size           number of offerings to fetch
+     * @param withTotalCount whether the total number of public offerings should be counted
+     * @return page of public offerings including the cursor of the next page
+     */
+    public ServiceOfferingCursorPage getAllPublicServiceOfferings(String cursor, int size, boolean withTotalCount) {
+        List<ServiceOfferingExtension> extensions = findPublicOfferings(cursor, size);
+
+        return new ServiceOfferingCursorPage(
+                mapPublicOfferingPage(limitToPageSize(extensions, size)),
+                getNextCursor(extensions, size),
+                withTotalCount ? serviceOfferingExtensionRepository.countByState(ServiceOfferingState.RELEASED) : null);
+    }
+
+    /**
+     * Reactive variant of {@link #getAllPublicServiceOfferings(String, int, boolean)}. After the page of offerings
+     * is loaded, their self-descriptions, their providers and the total count are fetched concurrently. Blocking
+     * database and catalog calls run on the bounded remote call executor, hence no request thread waits for them.
+     *
+     * @param cursor         cursor of the previous page or null for the first page
+     * @param size           number of offerings to fetch
+     * @param withTotalCount whether the total number of public offerings should be counted
+     * @return page of public offerings including the cursor of the next page
+     */
+    public Mono<ServiceOfferingCursorPage> getAllPublicServiceOfferingsReactive(String cursor, int size,
+                                                                                boolean withTotalCount) {
+        return blockingCall(() -> findPublicOfferings(cursor, size)).flatMap(extensions -> {
+            List<ServiceOfferingExtension> page = limitToPageSize(extensions, size);
+            return Mono.zip(
+                    blockingCall(() -> getSelfDescriptionSummariesByOfferingExtensionList(page, false)),
+                    getOrganizationDetailsByIdsReactive(
+                            page.stream().map(ServiceOfferingExtension::getIssuer).collect(Collectors.toSet())),
+                    countIfRequested(withTotalCount,
+                            () -> serviceOfferingExtensionRepository.countByState(ServiceOfferingState.RELEASED)))
+                    .map(results -> new ServiceOfferingCursorPage(
+                            mapOfferingPage(page, results.getT1(), results.getT2()::get),
+                            getNextCursor(extensions, size),
+                            results.getT3().orElse(null)));
+        });
+    }
+
+    private List<ServiceOfferingExtension> findPublicOfferings(String cursor, int size) {
+        Limit limit = getCursorPageLimit(size);
+        if (cursor == null) {
+            return serviceOfferingExtensionRepository
+                    .findAllByStateOrderByCreationDateDescIdDesc(ServiceOfferingState.RELEASED, limit);
+        }
+        OfferingCursor offeringCursor = OfferingCursor.decode(cursor);
+        return serviceOfferingExtensionRepository
+                .findAllByStateAfterCursor(ServiceOfferingState.RELEASED,
+                        offeringCursor.creationDate(), offeringCursor.id(), limit);
+    }
+
+    private List<ServiceOfferingBasicDto> mapPublicOfferingPage(List<ServiceOfferingExtension> extensions) {
+        Map<String, SelfDescriptionSummary> summaries =
+                getSelfDescriptionSummariesByOfferingExtensionList(extensions, false);
+
+        // offerings on a page are usually provided by only a few organizations, hence fetch each of them only once
+        Map<String, MerlotParticipantDto> providerOrgas = getOrganizationDetailsByIds(
+                extensions.stream().map(ServiceOfferingExtension::getIssuer).collect(Collectors.toSet()));
+
+        return mapOfferingPage(extensions, summaries, providerOrgas::get);
+    }
+
+    private Map<String, MerlotParticipantDto> getOrganizationDetailsByIds(Set<String> orgaIds) {
+        Map<String, MerlotParticipantDto> organizationDetails = new HashMap<>();
+        for (String orgaId : orgaIds) {
+            organizationDetails.put(orgaId, organizationOrchestratorClient.getOrganizationDetails(orgaId));
+        }
+        return organizationDetails;
+    }
+
+    private Mono<Map<String, MerlotParticipantDto>> getOrganizationDetailsByIdsReactive(Set<String> orgaIds) {
+        // the size of the remote call executor bounds the number of organizations fetched at once
+        return Flux.fromIterable(orgaIds)
+                .flatMap(orgaId -> blockingCall(() -> organizationOrchestratorClient.getOrganizationDetails(orgaId))
+                        .map(organization -> Map.entry(orgaId, organization)),
+                        remoteCallExecutor.getMaxPoolSize())
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private Mono<Optional<Long>> countIfRequested(boolean withTotalCount, Supplier<Long> count) {
+        return withTotalCount ? blockingCall(() -> Optional.of(count.get())) : Mono.just(Optional.empty());
+    }
+
+    private <T> Mono<T> blockingCall(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.fromExecutor(remoteCallExecutor))
+                .onErrorMap(RejectedExecutionException.class, this::remoteCallsRejected);
+    }
+
     /**
      * Given an organization id and paging parameters, find all offerings that belong to this organization.
      * Optionally, also specify an offering state to filter for a specific state.
@@ -292,26 +536,139 @@ public class ServiceOfferingsService {
             extensions = serviceOfferingExtensionRepository
                     .findAllByIssuer(orgaId, pageable);
         }
-        Map<String, ServiceOfferingExtension> extensionMap = extensions.stream()
-                .collect(Collectors.toMap(ServiceOfferingExtension::getCurrentSdHash, Function.identity()));
+        List<ServiceOfferingBasicDto> models = mapOrganizationOfferingPage(orgaId, extensions.getContent());
+
+        return new PageImpl<>(models, pageable, extensions.getTotalElements());
+    }
+
+    /**
+     * Given an organization id, a cursor and a page size, find the next offerings that belong to this organization,
+     * ordered by descending creation date. Optionally, also specify an offering state to filter for a specific state.
+     *
+     * @param orgaId         id of the organization to fetch the offerings for
+     * @param state          optional offering state for filtering
+     * @param cursor         cursor of the previous page or null for the first page
+     * @param size           number of offerings to fetch
+     * @param withTotalCount whether the total number of matching offerings should be counted
+     * @return page of organization offerings including the cursor of the next page
+     */
+    public ServiceOfferingCursorPage getOrganizationServiceOfferings(String orgaId, ServiceOfferingState state,
+                                                                     String cursor, int size, boolean withTotalCount) {
+        List<ServiceOfferingExtension> extensions = findOrganizationOfferings(orgaId, state, cursor, size);
+
+        return new ServiceOfferingCursorPage(
+                mapOrganizationOfferingPage(orgaId, limitToPageSize(extensions, size)),
+                getNextCursor(extensions, size),
+                withTotalCount ? countOrganizationOfferings(orgaId, state) : null);
+    }
+
+    /**
+     * Reactive variant of {@link #getOrganizationServiceOfferings(String, ServiceOfferingState, String, int, boolean)}.
+     * After the page of offerings is loaded, their self-descriptions, the organization and the total count are
+     * fetched concurrently. Blocking database and catalog calls run on the bounded remote call executor, hence no
+     * request thread waits for them.
+     *
+     * @param orgaId         id of the organization to fetch the offerings for
+     * @param state          optional offering state for filtering
+     * @param cursor         cursor of the previous page or null for the first page
+     * @param size           number of offerings to fetch
+     * @param withTotalCount whether the total number of matching offerings should be counted
+     * @return page of organization offerings including the cursor of the next page
+     */
+    public Mono<ServiceOfferingCursorPage> getOrganizationServiceOfferingsReactive(String orgaId,
+                                                                                   ServiceOfferingState state,
+                                                                                   String cursor, int size,
+                                                                                   boolean withTotalCount) {
+        return blockingCall(() -> findOrganizationOfferings(orgaId, state, cursor, size)).flatMap(extensions -> {
+            List<ServiceOfferingExtension> page = limitToPageSize(extensions, size);
+            return Mono.zip(
+                    blockingCall(() -> getSelfDescriptionSummariesByOfferingExtensionList(page, true)),
+                    getOrganizationDetailsByIdsReactive(Set.of(orgaId)),
+                    countIfRequested(withTotalCount, () -> countOrganizationOfferings(orgaId, state)))
+                    .map(results -> new ServiceOfferingCursorPage(
+                            mapOfferingPage(page, results.getT1(), issuer -> results.getT2().get(orgaId)),
+                            getNextCursor(extensions, size),
+                            results.getT3().orElse(null)));
+        });
+    }
 
-        List<SelfDescriptionMeta> items = getSelfDescriptionsByOfferingExtensionList(extensions, true);
+    private List<ServiceOfferingExtension> findOrganizationOfferings(String orgaId, ServiceOfferingState state,
+                                                                     String cursor, int size) {
+        Limit limit = getCursorPageLimit(size);
+        OfferingCursor offeringCursor = cursor != null ? OfferingCursor.decode(cursor) : null;
+        if (state != null) {
+            return offeringCursor == null
+                    ? serviceOfferingExtensionRepository
+                        .findAllByIssuerAndStateOrderByCreationDateDescIdDesc(orgaId, state, limit)
+                    : serviceOfferingExtensionRepository
+                        .findAllByIssuerAndStateAfterCursor(orgaId, state,
+                                offeringCursor.creationDate(), offeringCursor.id(), limit);
+        }
+        return offeringCursor == null
+                ? serviceOfferingExtensionRepository
+                    .findAllByIssuerOrderByCreationDateDescIdDesc(orgaId, limit)
+                : serviceOfferingExtensionRepository
+                    .findAllByIssuerAfterCursor(orgaId,
+                            offeringCursor.creationDate(), offeringCursor.id(), limit);
+    }
+
+    private long countOrganizationOfferings(String orgaId, ServiceOfferingState state) {
+        return state != null
+                ? serviceOfferingExtensionRepository.countByIssuerAndState(orgaId, state)
+                : serviceOfferingExtensionRepository.countByIssuer(orgaId);
+    }
+
+    private List<ServiceOfferingBasicDto> mapOrganizationOfferingPage(String orgaId,
+                                                                      List<ServiceOfferingExtension> extensions) {
+        Map<String, SelfDescriptionSummary> summaries =
+                getSelfDescriptionSummariesByOfferingExtensionList(extensions, true);
 
         MerlotParticipantDto providerOrga = organizationOrchestratorClient.getOrganizationDetails(orgaId);
 
-        // extract the items from the SelfDescriptionsResponse and map them to Dto instances
-        List<ServiceOfferingBasicDto> models = items.stream()
-                .map(item -> serviceOfferingMapper.selfDescriptionMetaToServiceOfferingBasicDto(
-                        item,
-                        extensionMap.get(item.getSdHash()),
-                        providerOrga))
-                .sorted(Comparator.comparing(offer -> offer.getCreationDate() != null
-                                ? (LocalDateTime.parse(offer.getCreationDate(), DateTimeFormatter.ISO_DATE_TIME))
-                                : LocalDateTime.MIN,
-                        Comparator.reverseOrder()))  // since the catalog does not respect the order of the hashes, we need to reorder again
-                .toList();
+        return mapOfferingPage(extensions, summaries, issuer -> providerOrga);
+    }
 
-        return new PageImpl<>(models, pageable, extensions.getTotalElements());
+    private Limit getCursorPageLimit(int size) {
+        if (size < 1) {
+            throw new ResponseStatusException(BAD_REQUEST, "Page size must be positive.");
+        }
+        // fetch one additional offering to know whether there is a next page
+        return Limit.of(size + 1);
+    }
+
+    private List<ServiceOfferingExtension> limitToPageSize(List<ServiceOfferingExtension> extensions, int size) {
+        return extensions.size() > size ? extensions.subList(0, size) : extensions;
+    }
+
+    private String getNextCursor(List<ServiceOfferingExtension> extensions, int size) {
+        return extensions.size() > size ? OfferingCursor.of(extensions.get(size - 1)).encode() : null;
+    }
+
+    /**
+     * Position of an offering in the listings, i.e. its creation date and id.
+     */
+    private record OfferingCursor(OffsetDateTime creationDate, String id) {
+        private static final String SEPARATOR = "|";
+
+        static OfferingCursor of(ServiceOfferingExtension extension) {
+            return new OfferingCursor(extension.getCreationDate(), extension.getId());
+        }
+
+        static OfferingCursor decode(String cursor) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separatorIndex = decoded.indexOf(SEPARATOR);
+                return new OfferingCursor(OffsetDateTime.parse(decoded.substring(0, separatorIndex)),
+                        decoded.substring(separatorIndex + SEPARATOR.length()));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new ResponseStatusException(BAD_REQUEST, "Invalid cursor.");
+            }
+        }
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((creationDate + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+        }
     }
 
     /**
@@ -325,7 +682,7 @@ public class ServiceOfferingsService {
         // basic input sanitization
         id = Jsoup.clean(id, Safelist.basic());
 
-        ServiceOfferingExtension extension = serviceOfferingExtensionRepository.findById(id).orElse(null);
+        ServiceOfferingExtension extension = serviceOfferingExtensionLookup.findById(id).orElse(null);
 
         if (extension == null) {
             throw new ResponseStatusException(NOT_FOUND, OFFERING_NOT_FOUND);
@@ -357,10 +714,7 @@ public class ServiceOfferingsService {
             throw new ResponseStatusException(FORBIDDEN, "Cannot create/update self-description without valid provider TnC");
         }
 
-        GxSOTermsAndConditions merlotTnC = new GxSOTermsAndConditions(organizationOrchestratorClient
-                .getOrganizationDetails(getMerlotFederationId()).getSelfDescription()
-                .findFirstCredentialSubjectByType(MerlotLegalParticipantCredentialSubject.class)
-                .getTermsAndConditions());
+        GxSOTermsAndConditions merlotTnC = federationTermsAndConditionsHolder.getTermsAndConditions();
 
         // regardless of if we are updating or creating a new offering, we need to patch the tnc if the frontend does not send them
         if (credentialSubject.getTermsAndConditions() == null) {
@@ -374,15 +728,25 @@ public class ServiceOfferingsService {
         }
     }
 
-    @Transactional(rollbackOn = {ResponseStatusException.class})
+    private MerlotParticipantDto getProviderDetails(String providerId, String authToken) {
+        return organizationOrchestratorClient.getOrganizationDetails(providerId, Map.of(AUTHORIZATION, authToken));
+    }
+
     private SelfDescriptionMeta storeServiceOffering(GxServiceOfferingCredentialSubject offeringCs,
                                                      MerlotServiceOfferingCredentialSubject merlotOfferingCs,
                                                      PojoCredentialSubject specificMerlotOfferingCs,
                                                      ServiceOfferingExtension extension,
                                                      String authToken) {
         // request provider details
-        MerlotParticipantDto participantDto = organizationOrchestratorClient
-                .getOrganizationDetails(offeringCs.getProvidedBy().getId(), Map.of(AUTHORIZATION, authToken));
+        MerlotParticipantDto participantDto = getProviderDetails(offeringCs.getProvidedBy().getId(), authToken);
+        return storeServiceOffering(offeringCs, merlotOfferingCs, specificMerlotOfferingCs, extension, participantDto);
+    }
+
+    private SelfDescriptionMeta storeServiceOffering(GxServiceOfferingCredentialSubject offeringCs,
+                                                     MerlotServiceOfferingCredentialSubject merlotOfferingCs,
+                                                     PojoCredentialSubject specificMerlotOfferingCs,
+                                                     ServiceOfferingExtension extension,
+                                                     MerlotParticipantDto participantDto) {
         List<ExtendedVerifiableCredential> participantCredentials = participantDto.getSelfDescription()
                 .getVerifiableCredentials().stream().filter(vc -> {
                     try {
@@ -407,10 +771,15 @@ public class ServiceOfferingsService {
         extension.setIssuer(selfDescriptionsResponse.getIssuer());
         extension.setCurrentSdHash(selfDescriptionsResponse.getSdHash());
         try {
-            serviceOfferingExtensionRepository.save(extension);
+            // joins the transaction of the caller, bulk submissions on the executor get one per offering instead
+            transactionTemplate.executeWithoutResult(status -> {
+                serviceOfferingExtensionRepository.save(extension);
+                selfDescriptionSummaryRepository.save(serviceOfferingMapper.credentialSubjectsToSelfDescriptionSummary(
+                        selfDescriptionsResponse.getSdHash(), offeringCs, specificMerlotOfferingCs));
+            });
         } catch (Exception e) {
             // if saving fails, "rollback" the service-offering creation in the catalog
-            deleteServiceOfferingFromCatalog(selfDescriptionsResponse.getSdHash());
+            scheduleCompensatingDelete(selfDescriptionsResponse.getSdHash());
             throw new ResponseStatusException(INTERNAL_SERVER_ERROR, "Service offering could not be saved.");
         }
 
@@ -427,7 +796,113 @@ public class ServiceOfferingsService {
      */
     @Transactional(rollbackOn = {ResponseStatusException.class})
     public SelfDescriptionMeta addServiceOffering(ServiceOfferingDto serviceOfferingDto, String authToken) {
+        NewOffering offering = prepareNewOffering(serviceOfferingDto);
+        return storeServiceOffering(offering.offeringCs(), offering.merlotOfferingCs(),
+                offering.specificMerlotOfferingCs(), offering.extension(), authToken);
+    }
 
+    /**
+     * Given a list of offeringDtos containing self-descriptions, create new offerings and attempt to publish them
+     * to the GXFS catalog. The details of each provider are fetched only once and the offerings are signed and
+     * submitted in parallel. Each offering succeeds or fails on its own.
+     *
+     * @param serviceOfferingDtos self-descriptions of the offerings
+     * @param authToken authToken to access further backend services
+     * @return results for the offerings in the order of the request
+     */
+    public List<ServiceOfferingBulkResult> addServiceOfferings(List<ServiceOfferingDto> serviceOfferingDtos,
+                                                               String authToken) {
+        checkBulkSize(serviceOfferingDtos);
+
+        Map<String, CompletableFuture<MerlotParticipantDto>> providerDetails = new HashMap<>();
+        List<CompletableFuture<SelfDescriptionMeta>> submissions = new ArrayList<>(serviceOfferingDtos.size());
+        for (ServiceOfferingDto serviceOfferingDto : serviceOfferingDtos) {
+            CompletableFuture<SelfDescriptionMeta> submission;
+            try {
+                NewOffering offering = prepareNewOffering(serviceOfferingDto);
+                submission = getProviderDetailsOnce(providerDetails, offering.offeringCs().getProvidedBy().getId(),
+                        authToken)
+                        .thenApplyAsync(participantDto -> storeServiceOffering(offering.offeringCs(),
+                                offering.merlotOfferingCs(), offering.specificMerlotOfferingCs(),
+                                offering.extension(), participantDto), offeringSubmissionExecutor);
+            } catch (RuntimeException e) {
+                submission = CompletableFuture.failedFuture(e);
+            }
+            submissions.add(submission);
+        }
+
+        return getBulkResults(submissions);
+    }
+
+    /**
+     * Given a list of offeringDtos containing self-descriptions of existing offerings, attempt to update the
+     * corresponding catalog entries. The offerings are identified by the ids of their self-descriptions. The details
+     * of each provider are fetched only once and the offerings are updated in parallel, each in its own transaction,
+     * so that each offering succeeds or fails on its own.
+     *
+     * @param serviceOfferingDtos self-descriptions of the offerings
+     * @param authToken authToken to access further backend services
+     * @return results for the offerings in the order of the request
+     */
+    public List<ServiceOfferingBulkResult> updateServiceOfferings(List<ServiceOfferingDto> serviceOfferingDtos,
+                                                                  String authToken) {
+        checkBulkSize(serviceOfferingDtos);
+
+        Map<String, CompletableFuture<MerlotParticipantDto>> providerDetails = new HashMap<>();
+        List<CompletableFuture<SelfDescriptionMeta>> submissions = new ArrayList<>(serviceOfferingDtos.size());
+        for (ServiceOfferingDto serviceOfferingDto : serviceOfferingDtos) {
+            CompletableFuture<SelfDescriptionMeta> submission;
+            try {
+                GxServiceOfferingCredentialSubject offeringCs = serviceOfferingDto.getSelfDescription()
+                        .findFirstCredentialSubjectByType(GxServiceOfferingCredentialSubject.class);
+                String offeringId = offeringCs.getId();
+                submission = getProviderDetailsOnce(providerDetails, offeringCs.getProvidedBy().getId(), authToken)
+                        .thenApplyAsync(participantDto -> transactionTemplate.execute(status ->
+                                updateServiceOffering(serviceOfferingDto, offeringId, providerId -> participantDto)),
+                                offeringSubmissionExecutor);
+            } catch (RuntimeException e) {
+                submission = CompletableFuture.failedFuture(e);
+            }
+            submissions.add(submission);
+        }
+
+        return getBulkResults(submissions);
+    }
+
+    private CompletableFuture<MerlotParticipantDto> getProviderDetailsOnce(
+            Map<String, CompletableFuture<MerlotParticipantDto>> providerDetails, String providerId, String authToken) {
+        return providerDetails.computeIfAbsent(providerId,
+                id -> supplyRemoteCall(() -> getProviderDetails(id, authToken)));
+    }
+
+    private void checkBulkSize(List<ServiceOfferingDto> serviceOfferingDtos) {
+        if (serviceOfferingDtos.size() > maxBulkSize) {
+            throw new ResponseStatusException(BAD_REQUEST,
+                    "At most " + maxBulkSize + " service offerings can be submitted at once.");
+        }
+    }
+
+    private List<ServiceOfferingBulkResult> getBulkResults(List<CompletableFuture<SelfDescriptionMeta>> submissions) {
+        List<ServiceOfferingBulkResult> results = new ArrayList<>(submissions.size());
+        for (int i = 0; i < submissions.size(); i++) {
+            results.add(getBulkResult(i, submissions.get(i)));
+        }
+        return results;
+    }
+
+    private ServiceOfferingBulkResult getBulkResult(int index, CompletableFuture<SelfDescriptionMeta> submission) {
+        try {
+            return new ServiceOfferingBulkResult(index, OK.value(), submission.join(), null);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ResponseStatusException ex) {
+                return new ServiceOfferingBulkResult(index, ex.getStatusCode().value(), null, ex.getReason());
+            }
+            log.warn("Service offering {} of bulk request could not be stored: {}", index, e.getMessage());
+            return new ServiceOfferingBulkResult(index, INTERNAL_SERVER_ERROR.value(), null, "Unknown error");
+        }
+    }
+
+    private NewOffering prepareNewOffering(ServiceOfferingDto serviceOfferingDto) {
         ServiceOfferingExtension extension = new ServiceOfferingExtension();
 
         // extract credential subjects from VP
@@ -445,7 +920,13 @@ public class ServiceOfferingsService {
         merlotOfferingCs.setCreationDate(extension.getCreationDate().format(DateTimeFormatter.ISO_INSTANT));
         specificMerlotOfferingCs.setId(offeringId);
 
-        return storeServiceOffering(offeringCs, merlotOfferingCs, specificMerlotOfferingCs, extension, authToken);
+        return new NewOffering(offeringCs, merlotOfferingCs, specificMerlotOfferingCs, extension);
+    }
+
+    private record NewOffering(GxServiceOfferingCredentialSubject offeringCs,
+                               MerlotServiceOfferingCredentialSubject merlotOfferingCs,
+                               PojoCredentialSubject specificMerlotOfferingCs,
+                               ServiceOfferingExtension extension) {
     }
 
     /**
@@ -461,6 +942,12 @@ public class ServiceOfferingsService {
     @Transactional(rollbackOn = {ResponseStatusException.class})
     public SelfDescriptionMeta updateServiceOffering(ServiceOfferingDto serviceOfferingDto,
                                                      String offeringId, String authToken) {
+        return updateServiceOffering(serviceOfferingDto, offeringId,
+                providerId -> getProviderDetails(providerId, authToken));
+    }
+
+    private SelfDescriptionMeta updateServiceOffering(ServiceOfferingDto serviceOfferingDto, String offeringId,
+                                                      Function<String, MerlotParticipantDto> providerDetails) {
 
         ExtendedVerifiablePresentation vp = serviceOfferingDto.getSelfDescription();
         GxServiceOfferingCredentialSubject offeringCs = vp
@@ -473,7 +960,7 @@ public class ServiceOfferingsService {
             throw new ResponseStatusException(UNPROCESSABLE_ENTITY, "Given offering id does not match the self-description.");
         }
 
-        ServiceOfferingExtension extension = serviceOfferingExtensionRepository
+        ServiceOfferingExtension extension = serviceOfferingExtensionLookup
                 .findById(offeringId).orElse(null);
 
         if (extension == null) {
@@ -496,17 +983,12 @@ public class ServiceOfferingsService {
         // override creation date
         merlotOfferingCs.setCreationDate(extension.getCreationDate().format(DateTimeFormatter.ISO_INSTANT));
 
-        SelfDescriptionMeta selfDescriptionsResponse =
-                storeServiceOffering(offeringCs, merlotOfferingCs, specificMerlotOfferingCs, extension, authToken);
+        SelfDescriptionMeta selfDescriptionsResponse = storeServiceOffering(offeringCs, merlotOfferingCs,
+                specificMerlotOfferingCs, extension, providerDetails.apply(offeringCs.getProvidedBy().getId()));
 
-        // delete previous entry
-        try {
-            deleteServiceOfferingFromCatalog(previousSdHash);
-        } catch (ResponseStatusException ex) {
-            //if deleting the previous entry fails, "rollback" the service-offering creation in the catalog
-            deleteServiceOfferingFromCatalog(selfDescriptionsResponse.getSdHash());
-            throw new ResponseStatusException(INTERNAL_SERVER_ERROR, "Service offering could not be updated.");
-        }
+        // delete previous entry once this update is committed
+        catalogOutboxRelay.enqueue(CatalogOutboxOperation.DELETE, previousSdHash);
+        selfDescriptionSummaryRepository.deleteById(previousSdHash);
 
         return selfDescriptionsResponse;
     }
@@ -525,11 +1007,12 @@ public class ServiceOfferingsService {
         return specificOfferingCs;
     }
 
-    private void deleteServiceOfferingFromCatalog(String sdHash) {
+    private void scheduleCompensatingDelete(String sdHash) {
         try {
-            gxfsCatalogService.deleteSelfDescriptionByHash(sdHash);
-        } catch (WebClientResponseException e) {
-            handleCatalogError(e);
+            // the surrounding transaction is rolled back, hence the removal is recorded on its own
+            catalogOutboxRelay.enqueueIndependently(CatalogOutboxOperation.DELETE, sdHash);
+        } catch (RuntimeException e) {
+            log.error("Failed to schedule removal of self-description {} from catalog: {}", sdHash, e.getMessage());
         }
     }
 
@@ -559,38 +1042,35 @@ public class ServiceOfferingsService {
 
         SelfDescriptionMeta response = null;
         try {
-            // sign SD using verification method referencing the merlot certificate and the default/merlot private key
-            response = gxfsCatalogService.addServiceOffering(credentialSubjects, participantCredentials,
-                    orgaSignerConfig.getMerlotVerificationMethod());
+            response = remoteServiceGuard.call(RemoteServiceGuard.CATALOG, "addServiceOffering",
+                    () -> signAndAddServiceOffering(credentialSubjects, participantCredentials, orgaSignerConfig));
         } catch (WebClientResponseException e) {
             handleCatalogError(e);
-        } catch (CredentialPresentationException | CredentialSignatureException e) {
-            throw new ResponseStatusException(INTERNAL_SERVER_ERROR, e.getMessage());
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             throw new ResponseStatusException(INTERNAL_SERVER_ERROR, "Unknown error");
         }
         return response;
     }
 
-    private String getMerlotFederationId() {
-        return "did:web:" + merlotDomain.replaceFirst(":", "%3A") + ":participant:df15587a-0760-32b5-9c42-bb7be66e8076";
+    private SelfDescriptionMeta signAndAddServiceOffering(List<PojoCredentialSubject> credentialSubjects,
+                                                          List<ExtendedVerifiableCredential> participantCredentials,
+                                                          OrganisationSignerConfigDto orgaSignerConfig) {
+        try {
+            // sign SD using verification method referencing the merlot certificate and the default/merlot private key
+            return gxfsCatalogService.addServiceOffering(credentialSubjects, participantCredentials,
+                    orgaSignerConfig.getMerlotVerificationMethod());
+        } catch (CredentialPresentationException | CredentialSignatureException e) {
+            throw new ResponseStatusException(INTERNAL_SERVER_ERROR, e.getMessage());
+        }
     }
 
     private String getSignerLegalNameFromCatalog(ExtendedVerifiablePresentation selfDescription) {
 
         String proofVerificationMethod = selfDescription.getLdProof().getVerificationMethod().toString();
 
-        String signerId = proofVerificationMethod.replaceFirst("#.*", "");
-
-        GXFSCatalogListResponse<GXFSQueryLegalNameItem>
-            response = gxfsCatalogService.getParticipantLegalNameByUri(
-                    MerlotLegalParticipantCredentialSubject.TYPE_CLASS, signerId);
-
-        // if we do not get exactly one item, we did not find the signer participant and the corresponding legal name
-        if (response.getTotalCount() != 1) {
-            return null;
-        } else {
-            return response.getItems().get(0).getLegalName();
-        }
+        return signerLegalNameResolver.getSignerLegalName(
+                SignerLegalNameResolver.getSignerId(proofVerificationMethod));
     }
 }
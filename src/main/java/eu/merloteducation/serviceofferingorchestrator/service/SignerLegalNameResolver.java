@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.service;
+
+import eu.merloteducation.gxfscataloglibrary.models.query.GXFSQueryLegalNameItem;
+import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.GXFSCatalogListResponse;
+import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.merlot.participants.MerlotLegalParticipantCredentialSubject;
+import eu.merloteducation.gxfscataloglibrary.service.GxfsCatalogService;
+import eu.merloteducation.serviceofferingorchestrator.config.CacheConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the legal name of the participant that signed a self-description. As there are only few distinct signers,
+ * the results (including unknown signers) are cached by participant id.
+ */
+@Component
+public class SignerLegalNameResolver {
+
+    private static final Pattern VERIFICATION_METHOD_FRAGMENT = Pattern.compile("#.*");
+
+    private final GxfsCatalogService gxfsCatalogService;
+
+    private final RemoteServiceGuard remoteServiceGuard;
+
+    public SignerLegalNameResolver(@Autowired GxfsCatalogService gxfsCatalogService,
+                                   @Autowired RemoteServiceGuard remoteServiceGuard) {
+        this.gxfsCatalogService = gxfsCatalogService;
+        this.remoteServiceGuard = remoteServiceGuard;
+    }
+
+    /**
+     * Given the verification method of a proof, return the id of the signing participant.
+     *
+     * @param verificationMethod verification method of the proof
+     * @return id of the signer
+     */
+    public static String getSignerId(String verificationMethod) {
+        return VERIFICATION_METHOD_FRAGMENT.matcher(verificationMethod).replaceFirst("");
+    }
+
+    /**
+     * Given the id of a participant, query the catalog for its legal name.
+     *
+     * @param signerId id of the signing participant
+     * @return legal name of the signer or null if no unique participant was found
+     */
+    @Cacheable(cacheNames = CacheConfig.SIGNER_LEGAL_NAME_CACHE)
+    public String getSignerLegalName(String signerId) {
+        GXFSCatalogListResponse<GXFSQueryLegalNameItem>
+            response = remoteServiceGuard.call(RemoteServiceGuard.CATALOG, "getParticipantLegalNameByUri",
+                    () -> gxfsCatalogService.getParticipantLegalNameByUri(
+                            MerlotLegalParticipantCredentialSubject.TYPE_CLASS, signerId));
+
+        // if we do not get exactly one item, we did not find the signer participant and the corresponding legal name
+        if (response.getTotalCount() != 1) {
+            return null;
+        } else {
+            return response.getItems().get(0).getLegalName();
+        }
+    }
+}
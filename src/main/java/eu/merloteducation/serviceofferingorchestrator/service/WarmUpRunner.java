@@ -0,0 +1,87 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Primes caches and remote connections at startup. Spring Boot only reports the application as ready to accept
+ * traffic once all application runners have completed, hence the readiness probe fails until the warm-up is done.
+ */
+@Component
+@Slf4j
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final String ECOSYSTEM_MERLOT = "merlot";
+    private static final String ECOSYSTEM_GAIAX = "gx";
+
+    private final ServiceOfferingShapeService serviceOfferingShapeService;
+    private final ServiceOfferingsService serviceOfferingsService;
+    private final FederationTermsAndConditionsHolder federationTermsAndConditionsHolder;
+    private final boolean enabled;
+
+    public WarmUpRunner(@Autowired ServiceOfferingShapeService serviceOfferingShapeService,
+                        @Autowired ServiceOfferingsService serviceOfferingsService,
+                        @Autowired FederationTermsAndConditionsHolder federationTermsAndConditionsHolder,
+                        @Value("${warm-up.enabled}") boolean enabled) {
+        this.serviceOfferingShapeService = serviceOfferingShapeService;
+        this.serviceOfferingsService = serviceOfferingsService;
+        this.federationTermsAndConditionsHolder = federationTermsAndConditionsHolder;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        log.info("Warming up caches before accepting traffic");
+
+        warmUpStep("shapes", () -> {
+            serviceOfferingShapeService.getShape(ECOSYSTEM_GAIAX, "Serviceoffering.json");
+            serviceOfferingShapeService.getShape(ECOSYSTEM_MERLOT, "Merlotserviceoffering.json");
+            serviceOfferingShapeService.getShape(ECOSYSTEM_MERLOT, "Merlotsaasserviceoffering.json");
+            serviceOfferingShapeService.getShape(ECOSYSTEM_MERLOT, "Merlotdatadeliveryserviceoffering.json");
+            serviceOfferingShapeService.getShape(ECOSYSTEM_MERLOT, "Merlotcoopcontractserviceoffering.json");
+        });
+        warmUpStep("federation terms and conditions", federationTermsAndConditionsHolder::getTermsAndConditions);
+        // a single listing fetches the catalog token, opens the remote connections and caches the providers of the
+        // most recent offerings
+        warmUpStep("offering listing", () -> serviceOfferingsService.getAllPublicServiceOfferings(
+                PageRequest.of(0, 9, Sort.by("creationDate").descending())));
+
+        log.info("Warm-up finished after {} ms", System.currentTimeMillis() - start);
+    }
+
+    private void warmUpStep(String name, Runnable step) {
+        try {
+            step.run();
+        } catch (RuntimeException e) {
+            // a failing warm-up must not keep the service from starting, the caches are filled on demand instead
+            log.warn("Warm-up of {} failed: {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator;
+
+import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingExtension;
+import eu.merloteducation.serviceofferingorchestrator.repositories.ServiceOfferingExtensionRepository;
+import eu.merloteducation.serviceofferingorchestrator.service.AssociatedContractsBackfill;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class AssociatedContractsBackfillTest {
+
+    @Autowired
+    private AssociatedContractsBackfill associatedContractsBackfill;
+
+    @Autowired
+    private ServiceOfferingExtensionRepository serviceOfferingExtensionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void legacyContractsAreMigratedOnce() {
+        ServiceOfferingExtension extension = new ServiceOfferingExtension();
+        extension.setId("urn:uuid:legacyoffering");
+        extension.release();
+        serviceOfferingExtensionRepository.save(extension);
+
+        jdbcTemplate.execute("alter table service_offering_extension "
+                + "add column associated_contract_ids character varying(255) array");
+        jdbcTemplate.update("update service_offering_extension set associated_contract_ids = array['c1', 'c2'] "
+                + "where id = ?", extension.getId());
+
+        associatedContractsBackfill.afterSingletonsInstantiated();
+        assertEquals(List.of("c1", "c2"), getContractIds(extension.getId()));
+
+        // a contract purged after the migration must not be copied again on the next start
+        jdbcTemplate.update("delete from service_offering_extension_contract where offering_id = ? "
+                + "and contract_id = 'c1'", extension.getId());
+        associatedContractsBackfill.afterSingletonsInstantiated();
+        assertEquals(List.of("c2"), getContractIds(extension.getId()));
+
+        // the legacy column is kept for instances of the previous version
+        Integer legacyColumns = jdbcTemplate.queryForObject("select count(*) from information_schema.columns "
+                + "where lower(column_name) = 'associated_contract_ids'", Integer.class);
+        assertEquals(1, legacyColumns);
+    }
+
+    private List<String> getContractIds(String offeringId) {
+        return jdbcTemplate.queryForList("select contract_id from service_offering_extension_contract "
+                + "where offering_id = ? order by contract_id", String.class, offeringId);
+    }
+}
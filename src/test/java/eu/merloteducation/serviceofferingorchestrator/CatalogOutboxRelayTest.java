@@ -0,0 +1,104 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator;
+
+import eu.merloteducation.gxfscataloglibrary.service.GxfsCatalogService;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.CatalogOutboxEntry;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.CatalogOutboxOperation;
+import eu.merloteducation.serviceofferingorchestrator.repositories.CatalogOutboxRepository;
+import eu.merloteducation.serviceofferingorchestrator.service.CatalogOutboxRelay;
+import eu.merloteducation.serviceofferingorchestrator.service.RemoteServiceGuard;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CatalogOutboxRelayTest {
+
+    private final CatalogOutboxRepository catalogOutboxRepository = mock(CatalogOutboxRepository.class);
+
+    private final GxfsCatalogService gxfsCatalogService = mock(GxfsCatalogService.class);
+
+    private CatalogOutboxRelay catalogOutboxRelay;
+
+    @BeforeEach
+    public void setUp() {
+        RemoteServiceGuard remoteServiceGuard = new RemoteServiceGuard(CircuitBreakerRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(), new SimpleMeterRegistry());
+        catalogOutboxRelay = new CatalogOutboxRelay(catalogOutboxRepository, gxfsCatalogService, remoteServiceGuard,
+                10, Duration.ofSeconds(10), Duration.ofMinutes(1));
+    }
+
+    private CatalogOutboxEntry givenDueEntry(CatalogOutboxOperation operation, int attempts) {
+        CatalogOutboxEntry entry = new CatalogOutboxEntry(operation, "1234");
+        entry.setAttempts(attempts);
+        when(catalogOutboxRepository.findByNextAttemptDateLessThanEqualOrderByNextAttemptDateAsc(any(), any()))
+                .thenReturn(List.of(entry));
+        return entry;
+    }
+
+    @Test
+    void relayRevocationSucceeds() {
+        CatalogOutboxEntry entry = givenDueEntry(CatalogOutboxOperation.REVOKE, 0);
+
+        catalogOutboxRelay.relayPendingEntries();
+
+        verify(gxfsCatalogService).revokeSelfDescriptionByHash("1234");
+        verify(catalogOutboxRepository).delete(entry);
+    }
+
+    @Test
+    void relayDeletionAlreadyGone() {
+        CatalogOutboxEntry entry = givenDueEntry(CatalogOutboxOperation.DELETE, 0);
+        doThrow(new WebClientResponseException(HttpStatus.NOT_FOUND.value(), "not found", null, null, null))
+                .when(gxfsCatalogService).deleteSelfDescriptionByHash("1234");
+
+        catalogOutboxRelay.relayPendingEntries();
+
+        verify(catalogOutboxRepository).delete(entry);
+    }
+
+    @Test
+    void relayDeletionFailsWithCappedBackoff() {
+        CatalogOutboxEntry entry = givenDueEntry(CatalogOutboxOperation.DELETE, 5);
+        doThrow(new WebClientResponseException(HttpStatus.BAD_GATEWAY.value(), "bad gateway", null, null, null))
+                .when(gxfsCatalogService).deleteSelfDescriptionByHash("1234");
+
+        OffsetDateTime before = OffsetDateTime.now(ZoneOffset.UTC);
+        catalogOutboxRelay.relayPendingEntries();
+
+        verify(catalogOutboxRepository, times(0)).delete(any());
+        verify(catalogOutboxRepository).save(entry);
+        assertEquals(6, entry.getAttempts());
+        assertNotNull(entry.getLastError());
+        // 10s * 2^5 exceeds the maximum backoff of one minute
+        assertFalse(entry.getNextAttemptDate().isBefore(before.plusMinutes(1)));
+        assertTrue(entry.getNextAttemptDate().isBefore(before.plusMinutes(2)));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package eu.merloteducation.serviceofferingorchestrator;
+
+import eu.merloteducation.modelslib.queue.ContractTemplateUpdated;
+import eu.merloteducation.serviceofferingorchestrator.config.MessageQueueConfig;
+import eu.merloteducation.serviceofferingorchestrator.repositories.ServiceOfferingExtensionRepository;
+import eu.merloteducation.serviceofferingorchestrator.service.MessageQueueService;
+import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingCacheInvalidator;
+import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingsService;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.ImmediateAcknowledgeAmqpException;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ContractEventsRetryTest {
+
+    private final ServiceOfferingExtensionRepository serviceOfferingExtensionRepository =
+            mock(ServiceOfferingExtensionRepository.class);
+
+    private final AmqpTemplate amqpTemplate = mock(AmqpTemplate.class);
+
+    private MessageQueueService messageQueueService;
+
+    private RetryOperationsInterceptor retryInterceptor;
+
+    @BeforeEach
+    public void setUp() {
+        messageQueueService = new MessageQueueService(serviceOfferingExtensionRepository,
+                mock(ServiceOfferingsService.class), mock(ApplicationEventPublisher.class), new BusProperties(),
+                mock(Destination.Factory.class), mock(CacheManager.class), mock(ServiceOfferingCacheInvalidator.class));
+        retryInterceptor = new MessageQueueConfig().contractEventsRetryInterceptor(amqpTemplate, 3,
+                Duration.ofMillis(1), Duration.ofMillis(5));
+    }
+
+    private Message createMessage(String contractId) {
+        return new Message(("{\"contractId\":\"" + contractId + "\",\"serviceOfferingId\":\"1234\"}")
+                .getBytes(StandardCharsets.UTF_8), new MessageProperties());
+    }
+
+    /**
+     * Let the retry advice invoke the contract created listener like the batch listener container would.
+     */
+    private MethodInvocation createListenerInvocation(List<Message> messages) throws Throwable {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getArguments()).thenReturn(new Object[] { null, messages });
+        when(invocation.proceed()).thenAnswer(i -> {
+            messageQueueService.contractCreatedListener(List.of(
+                    new ContractTemplateUpdated("contract1", "1234"),
+                    new ContractTemplateUpdated("contract2", "1234")));
+            return null;
+        });
+        return invocation;
+    }
+
+    @Test
+    void contractEventsRetriedAfterTemporaryFailure() throws Throwable {
+        when(serviceOfferingExtensionRepository.findAllById(any()))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"))
+                .thenReturn(List.of());
+
+        retryInterceptor.invoke(createListenerInvocation(List.of(createMessage("contract1"),
+                createMessage("contract2"))));
+
+        verify(serviceOfferingExtensionRepository, times(2)).findAllById(any());
+        verify(serviceOfferingExtensionRepository).saveAll(any());
+        verifyNoInteractions(amqpTemplate);
+    }
+
+    @Test
+    void contractEventsDeadLetteredAfterPersistentFailure() throws Throwable {
+        when(serviceOfferingExtensionRepository.findAllById(any()))
+                .thenThrow(new DataAccessResourceFailureException("database down"));
+        Message message1 = createMessage("contract1");
+        Message message2 = createMessage("contract2");
+        MethodInvocation invocation = createListenerInvocation(List.of(message1, message2));
+
+        // the recovered batch is acknowledged instead of being requeued
+        assertThrows(ImmediateAcknowledgeAmqpException.class, () -> retryInterceptor.invoke(invocation));
+
+        verify(serviceOfferingExtensionRepository, times(3)).findAllById(any());
+        verify(amqpTemplate).send("", MessageQueueConfig.CONTRACT_DEAD_LETTER_QUEUE, message1);
+        verify(amqpTemplate).send("", MessageQueueConfig.CONTRACT_DEAD_LETTER_QUEUE, message2);
+    }
+}
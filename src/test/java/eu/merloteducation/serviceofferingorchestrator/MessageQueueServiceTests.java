@@ -16,8 +16,10 @@
 
 package eu.merloteducation.serviceofferingorchestrator;
 
+import eu.merloteducation.modelslib.api.organization.MerlotParticipantDto;
 import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingDto;
 import eu.merloteducation.modelslib.queue.ContractTemplateUpdated;
+import eu.merloteducation.serviceofferingorchestrator.config.CacheConfig;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingExtension;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingState;
 import eu.merloteducation.serviceofferingorchestrator.repositories.ServiceOfferingExtensionRepository;
@@ -32,6 +34,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,6 +44,7 @@ import java.util.NoSuchElementException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
@@ -59,6 +64,9 @@ class MessageQueueServiceTests {
     @Mock
     ServiceOfferingsService serviceOfferingsService;
 
+    @Autowired
+    CacheManager cacheManager;
+
     @BeforeAll
     void beforeAll() throws Exception {
         ReflectionTestUtils.setField(messageQueueService, "serviceOfferingExtensionRepository", serviceOfferingExtensionRepository);
@@ -74,7 +82,7 @@ class MessageQueueServiceTests {
     @Test
     void contractCreatedForExistingOffering() {
         ContractTemplateUpdated contractTemplateUpdated = new ContractTemplateUpdated("contract", "1234");
-        messageQueueService.contractCreatedListener(contractTemplateUpdated);
+        messageQueueService.contractCreatedListener(List.of(contractTemplateUpdated));
 
         ServiceOfferingExtension offering = serviceOfferingExtensionRepository.findById(contractTemplateUpdated
                 .getServiceOfferingId()).orElse(null);
@@ -91,7 +99,7 @@ class MessageQueueServiceTests {
         offering.addAssociatedContract(contractTemplateUpdated.getContractId());
         serviceOfferingExtensionRepository.save(offering);
 
-        messageQueueService.contractPurgedListener(contractTemplateUpdated);
+        messageQueueService.contractPurgedListener(List.of(contractTemplateUpdated));
 
         offering = serviceOfferingExtensionRepository.findById(contractTemplateUpdated
                 .getServiceOfferingId()).orElse(null);
@@ -99,6 +107,36 @@ class MessageQueueServiceTests {
         assertThat(offering.getAssociatedContractIds()).doesNotContain(contractTemplateUpdated.getContractId());
     }
 
+    @Transactional
+    @Test
+    void contractsCreatedBatchForExistingAndMissingOffering() {
+        List<ContractTemplateUpdated> contractTemplatesUpdated = List.of(
+                new ContractTemplateUpdated("contract1", "1234"),
+                new ContractTemplateUpdated("contract2", "garbage"),
+                new ContractTemplateUpdated("contract3", "1234"));
+        messageQueueService.contractCreatedListener(contractTemplatesUpdated);
+
+        ServiceOfferingExtension offering = serviceOfferingExtensionRepository.findById("1234").orElse(null);
+        assertNotNull(offering);
+        assertThat(offering.getAssociatedContractIds()).contains("contract1", "contract3");
+        assertThat(offering.getAssociatedContractIds()).doesNotContain("contract2");
+    }
+
+    @Transactional
+    @Test
+    void contractsCreatedBatchWithInvalidEvent() {
+        List<ContractTemplateUpdated> contractTemplatesUpdated = List.of(
+                new ContractTemplateUpdated("contract4", null),
+                new ContractTemplateUpdated(null, "1234"),
+                new ContractTemplateUpdated("contract5", "1234"));
+        messageQueueService.contractCreatedListener(contractTemplatesUpdated);
+
+        ServiceOfferingExtension offering = serviceOfferingExtensionRepository.findById("1234").orElse(null);
+        assertNotNull(offering);
+        assertThat(offering.getAssociatedContractIds()).contains("contract5");
+        assertThat(offering.getAssociatedContractIds()).doesNotContain("contract4");
+    }
+
     @Test
     void offeringDetailsRequestExisting() throws Exception {
         ServiceOfferingDto offeringDto = messageQueueService.offeringDetailsRequestListener("1234");
@@ -128,4 +166,26 @@ class MessageQueueServiceTests {
         assertThat(extensionAfterOrganizationRevoked.getState()).isEqualTo(ServiceOfferingState.REVOKED);
     }
 
+    @Test
+    void organizationRevokedEvictsCachedParticipant() {
+        Cache participantCache = cacheManager.getCache(CacheConfig.PARTICIPANT_CACHE);
+        assertNotNull(participantCache);
+        participantCache.put("issuer", new MerlotParticipantDto());
+
+        messageQueueService.organizationRevokedListener("issuer");
+
+        assertNull(participantCache.get("issuer"));
+    }
+
+    @Test
+    void organizationRevokedEvictsCachedSignerLegalName() {
+        Cache signerLegalNameCache = cacheManager.getCache(CacheConfig.SIGNER_LEGAL_NAME_CACHE);
+        assertNotNull(signerLegalNameCache);
+        signerLegalNameCache.put("issuer", "Old Legal Name");
+
+        messageQueueService.organizationRevokedListener("issuer");
+
+        assertNull(signerLegalNameCache.get("issuer"));
+    }
+
 }
@@ -0,0 +1,120 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package eu.merloteducation.serviceofferingorchestrator;
+
+import eu.merloteducation.gxfscataloglibrary.models.credentials.ExtendedVerifiablePresentation;
+import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.SelfDescriptionMeta;
+import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.gx.datatypes.NodeKindIRITypeId;
+import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.gx.serviceofferings.GxServiceOfferingCredentialSubject;
+import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingDto;
+import eu.merloteducation.serviceofferingorchestrator.models.dto.OfferingSubmissionJobDto;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.OfferingSubmissionJob;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.OfferingSubmissionJobStatus;
+import eu.merloteducation.serviceofferingorchestrator.repositories.OfferingSubmissionJobRepository;
+import eu.merloteducation.serviceofferingorchestrator.service.OfferingSubmissionJobService;
+import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class OfferingSubmissionJobConcurrencyTest {
+
+    @Autowired
+    private OfferingSubmissionJobService offeringSubmissionJobService;
+
+    @Autowired
+    private OfferingSubmissionJobRepository offeringSubmissionJobRepository;
+
+    @Autowired
+    private ServiceOfferingsService serviceOfferingsService;
+
+    @Autowired
+    private ThreadPoolTaskExecutor offeringJobExecutor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ServiceOfferingsService serviceOfferingsServiceMock = mock(ServiceOfferingsService.class);
+
+    private ThreadPoolTaskExecutor testExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        testExecutor = new ThreadPoolTaskExecutor();
+        testExecutor.setCorePoolSize(1);
+        testExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        testExecutor.initialize();
+        ReflectionTestUtils.setField(offeringSubmissionJobService, "offeringJobExecutor", testExecutor);
+        ReflectionTestUtils.setField(offeringSubmissionJobService, "serviceOfferingsService",
+                serviceOfferingsServiceMock);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        testExecutor.shutdown();
+        ReflectionTestUtils.setField(offeringSubmissionJobService, "offeringJobExecutor", offeringJobExecutor);
+        ReflectionTestUtils.setField(offeringSubmissionJobService, "serviceOfferingsService", serviceOfferingsService);
+    }
+
+    private ServiceOfferingDto createOffering() {
+        GxServiceOfferingCredentialSubject cs = new GxServiceOfferingCredentialSubject();
+        cs.setProvidedBy(new NodeKindIRITypeId("did:web:test.eu:participant:orga-10"));
+        ExtendedVerifiablePresentation vp = mock(ExtendedVerifiablePresentation.class);
+        when(vp.findFirstCredentialSubjectByType(GxServiceOfferingCredentialSubject.class)).thenReturn(cs);
+        ServiceOfferingDto dto = new ServiceOfferingDto();
+        dto.setSelfDescription(vp);
+        return dto;
+    }
+
+    @Test
+    void jobMarkedAsFailedWhileRunningIsNotOverwritten() {
+        when(serviceOfferingsServiceMock.addServiceOffering(any(), any())).thenAnswer(invocation -> {
+            // the job takes so long that the stale job sweep gives up on it before it completes
+            jdbcTemplate.update("update offering_submission_job set last_update_date = ? where status = 'RUNNING'",
+                    OffsetDateTime.now(ZoneOffset.UTC).minusDays(1));
+            offeringSubmissionJobService.failStaleJobs();
+
+            SelfDescriptionMeta response = new SelfDescriptionMeta();
+            response.setId("urn:uuid:late-offering");
+            response.setSdHash("1234");
+            return response;
+        });
+
+        OfferingSubmissionJobDto pendingJob = offeringSubmissionJobService.submitAddServiceOffering(createOffering(),
+                "token");
+        testExecutor.shutdown(); // waits for the submitted job to complete
+
+        OfferingSubmissionJob job = offeringSubmissionJobRepository.findById(pendingJob.getId()).orElseThrow();
+        assertEquals(OfferingSubmissionJobStatus.FAILED, job.getStatus());
+        assertEquals(500, job.getErrorStatus());
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator;
+
+import eu.merloteducation.gxfscataloglibrary.models.credentials.ExtendedVerifiablePresentation;
+import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.SelfDescriptionMeta;
+import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.gx.datatypes.NodeKindIRITypeId;
+import eu.merloteducation.gxfscataloglibrary.models.selfdescriptions.gx.serviceofferings.GxServiceOfferingCredentialSubject;
+import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingDto;
+import eu.merloteducation.serviceofferingorchestrator.models.dto.OfferingSubmissionJobDto;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.OfferingSubmissionJob;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.OfferingSubmissionJobStatus;
+import eu.merloteducation.serviceofferingorchestrator.repositories.OfferingSubmissionJobRepository;
+import eu.merloteducation.serviceofferingorchestrator.service.OfferingSubmissionJobService;
+import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+
+class OfferingSubmissionJobServiceTest {
+
+    private final OfferingSubmissionJobRepository offeringSubmissionJobRepository =
+            mock(OfferingSubmissionJobRepository.class);
+
+    private final ServiceOfferingsService serviceOfferingsService = mock(ServiceOfferingsService.class);
+
+    private ThreadPoolTaskExecutor offeringJobExecutor;
+
+    private OfferingSubmissionJobService offeringSubmissionJobService;
+
+    @BeforeEach
+    public void setUp() {
+        offeringJobExecutor = new ThreadPoolTaskExecutor();
+        offeringJobExecutor.setCorePoolSize(1);
+        offeringJobExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        offeringJobExecutor.initialize();
+        when(offeringSubmissionJobRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        offeringSubmissionJobService = new OfferingSubmissionJobService(offeringSubmissionJobRepository,
+                serviceOfferingsService, offeringJobExecutor, Duration.ofMinutes(15));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        offeringJobExecutor.shutdown();
+    }
+
+    private ServiceOfferingDto createOffering(String providedBy) {
+        GxServiceOfferingCredentialSubject cs = new GxServiceOfferingCredentialSubject();
+        cs.setProvidedBy(new NodeKindIRITypeId(providedBy));
+        ExtendedVerifiablePresentation vp = mock(ExtendedVerifiablePresentation.class);
+        when(vp.findFirstCredentialSubjectByType(GxServiceOfferingCredentialSubject.class)).thenReturn(cs);
+        ServiceOfferingDto dto = new ServiceOfferingDto();
+        dto.setSelfDescription(vp);
+        return dto;
+    }
+
+    private OfferingSubmissionJob awaitFinishedJob() {
+        offeringJobExecutor.shutdown(); // waits for the submitted job to complete
+        ArgumentCaptor<OfferingSubmissionJob> jobCaptor = ArgumentCaptor.forClass(OfferingSubmissionJob.class);
+        verify(offeringSubmissionJobRepository, atLeastOnce()).save(jobCaptor.capture());
+        return jobCaptor.getValue();
+    }
+
+    @Test
+    void submitAddServiceOfferingSucceeds() {
+        ServiceOfferingDto dto = createOffering("did:web:test.eu:participant:orga-10");
+        SelfDescriptionMeta response = new SelfDescriptionMeta();
+        response.setId("urn:uuid:1234");
+        response.setSdHash("4321");
+        when(serviceOfferingsService.addServiceOffering(eq(dto), any())).thenReturn(response);
+
+        OfferingSubmissionJobDto pendingJob = offeringSubmissionJobService.submitAddServiceOffering(dto, "token");
+        assertEquals(OfferingSubmissionJobStatus.PENDING, pendingJob.getStatus());
+
+        OfferingSubmissionJob job = awaitFinishedJob();
+        assertEquals(pendingJob.getId(), job.getId());
+        assertEquals(OfferingSubmissionJobStatus.SUCCEEDED, job.getStatus());
+        assertEquals("urn:uuid:1234", job.getOfferingId());
+        assertEquals("4321", job.getSdHash());
+        assertEquals("did:web:test.eu:participant:orga-10", job.getIssuer());
+    }
+
+    @Test
+    void submitAddServiceOfferingFails() {
+        ServiceOfferingDto dto = createOffering("did:web:test.eu:participant:orga-10");
+        when(serviceOfferingsService.addServiceOffering(eq(dto), any()))
+                .thenThrow(new ResponseStatusException(FORBIDDEN, "No valid provider TnC"));
+
+        offeringSubmissionJobService.submitAddServiceOffering(dto, "token");
+
+        OfferingSubmissionJob job = awaitFinishedJob();
+        assertEquals(OfferingSubmissionJobStatus.FAILED, job.getStatus());
+        assertEquals(FORBIDDEN.value(), job.getErrorStatus());
+        assertEquals("No valid provider TnC", job.getErrorMessage());
+    }
+
+    @Test
+    void failStaleJobs() {
+        OfferingSubmissionJob staleJob = new OfferingSubmissionJob();
+        staleJob.setId("stale");
+        staleJob.setStatus(OfferingSubmissionJobStatus.RUNNING);
+        when(offeringSubmissionJobRepository.findAllByStatusInAndLastUpdateDateBefore(
+                eq(List.of(OfferingSubmissionJobStatus.PENDING, OfferingSubmissionJobStatus.RUNNING)),
+                any(OffsetDateTime.class))).thenReturn(List.of(staleJob));
+
+        offeringSubmissionJobService.failStaleJobs();
+
+        verify(offeringSubmissionJobRepository).save(staleJob);
+        assertEquals(OfferingSubmissionJobStatus.FAILED, staleJob.getStatus());
+        assertEquals(INTERNAL_SERVER_ERROR.value(), staleJob.getErrorStatus());
+        assertNotNull(staleJob.getErrorMessage());
+    }
+
+    @Test
+    void failStaleJobsSkipsJobsFinishedInTheMeantime() {
+        OfferingSubmissionJob finishedJob = new OfferingSubmissionJob();
+        OfferingSubmissionJob staleJob = new OfferingSubmissionJob();
+        when(offeringSubmissionJobRepository.findAllByStatusInAndLastUpdateDateBefore(any(), any()))
+                .thenReturn(List.of(finishedJob, staleJob));
+        doThrow(new ObjectOptimisticLockingFailureException(OfferingSubmissionJob.class, finishedJob.getId()))
+                .when(offeringSubmissionJobRepository).save(finishedJob);
+
+        offeringSubmissionJobService.failStaleJobs();
+
+        verify(offeringSubmissionJobRepository).save(staleJob);
+        assertEquals(OfferingSubmissionJobStatus.FAILED, staleJob.getStatus());
+    }
+
+    @Test
+    void submitAddServiceOfferingSkipsFailedJob() {
+        ServiceOfferingDto dto = createOffering("did:web:test.eu:participant:orga-10");
+        // the stale job sweep marked the job as failed while it was waiting in the queue
+        doThrow(new ObjectOptimisticLockingFailureException(OfferingSubmissionJob.class, "job"))
+                .when(offeringSubmissionJobRepository)
+                .save(argThat(job -> job.getStatus() == OfferingSubmissionJobStatus.RUNNING));
+
+        offeringSubmissionJobService.submitAddServiceOffering(dto, "token");
+        offeringJobExecutor.shutdown();
+
+        verify(serviceOfferingsService, never()).addServiceOffering(any(), any());
+    }
+
+    @Test
+    void getNonExistentJob() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> offeringSubmissionJobService.getJob("garbage"));
+        assertEquals(404, exception.getStatusCode().value());
+    }
+}
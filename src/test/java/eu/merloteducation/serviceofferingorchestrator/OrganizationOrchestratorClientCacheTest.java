@@ -0,0 +1,84 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package eu.merloteducation.serviceofferingorchestrator;
+
+import eu.merloteducation.modelslib.api.organization.MerlotParticipantDto;
+import eu.merloteducation.serviceofferingorchestrator.config.CacheConfig;
+import eu.merloteducation.serviceofferingorchestrator.service.OrganizationOrchestratorClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class OrganizationOrchestratorClientCacheTest {
+
+    private static final String ORGA_ID = "did:web:test.eu:participant:orga-10";
+
+    private static final AtomicInteger REQUESTS = new AtomicInteger();
+
+    @TestConfiguration
+    static class CountingExchangeConfig {
+        @Bean
+        public WebClientCustomizer countingExchangeCustomizer() {
+            // answer every remote call locally and count it instead of reaching the organizations orchestrator
+            return builder -> builder.exchangeFunction(request -> {
+                REQUESTS.incrementAndGet();
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body("{\"id\": \"" + ORGA_ID + "\"}")
+                        .build());
+            });
+        }
+    }
+
+    @Autowired
+    private OrganizationOrchestratorClient organizationOrchestratorClient;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager.getCache(CacheConfig.PARTICIPANT_CACHE).clear();
+        REQUESTS.set(0);
+    }
+
+    @Test
+    void secondLookupIsServedFromCache() {
+        MerlotParticipantDto first = organizationOrchestratorClient.getOrganizationDetails(ORGA_ID);
+        MerlotParticipantDto second = organizationOrchestratorClient.getOrganizationDetails(ORGA_ID);
+
+        assertEquals(ORGA_ID, first.getId());
+        assertEquals(ORGA_ID, second.getId());
+        assertEquals(1, REQUESTS.get());
+    }
+}
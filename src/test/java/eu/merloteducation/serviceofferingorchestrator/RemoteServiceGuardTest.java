@@ -0,0 +1,131 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator;
+
+import eu.merloteducation.serviceofferingorchestrator.service.RemoteCallFailurePredicate;
+import eu.merloteducation.serviceofferingorchestrator.service.RemoteServiceGuard;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RemoteServiceGuardTest {
+
+    private static final String OPERATION = "getSelfDescriptionsByHashes";
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RemoteServiceGuard remoteServiceGuard;
+
+    @BeforeEach
+    public void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .recordException(new RemoteCallFailurePredicate())
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        meterRegistry = new SimpleMeterRegistry();
+        remoteServiceGuard = new RemoteServiceGuard(circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+    }
+
+    private void failCall(HttpStatus status) {
+        assertThrows(WebClientResponseException.class,
+                () -> remoteServiceGuard.call(RemoteServiceGuard.CATALOG, OPERATION, () -> {
+                    throw new WebClientResponseException(status.value(), status.name(), null, null, null);
+                }));
+    }
+
+    @Test
+    void openCircuitFailsFast() {
+        failCall(HttpStatus.BAD_GATEWAY);
+        failCall(HttpStatus.BAD_GATEWAY);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> remoteServiceGuard.call(RemoteServiceGuard.CATALOG, OPERATION, () -> "result"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+
+        // other remote services are not affected
+        assertEquals("result",
+                remoteServiceGuard.call(RemoteServiceGuard.WIZARD_API, "getShapeByName", () -> "result"));
+    }
+
+    @Test
+    void callsAreTimedByOperationAndOutcome() {
+        remoteServiceGuard.call(RemoteServiceGuard.CATALOG, OPERATION, () -> "result");
+        failCall(HttpStatus.BAD_GATEWAY);
+
+        assertEquals(1, meterRegistry.get("remote.call").tags("service", RemoteServiceGuard.CATALOG,
+                "operation", OPERATION, "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("remote.call").tags("service", RemoteServiceGuard.CATALOG,
+                "operation", OPERATION, "outcome", "error").timer().count());
+        assertEquals(1.0, meterRegistry.get("remote.call.errors").tags("service", RemoteServiceGuard.CATALOG,
+                "operation", OPERATION, "outcome", "error").counter().count());
+    }
+
+    @Test
+    void clientErrorsKeepCircuitClosed() {
+        failCall(HttpStatus.NOT_FOUND);
+        failCall(HttpStatus.NOT_FOUND);
+
+        assertEquals("result", remoteServiceGuard.call(RemoteServiceGuard.CATALOG, OPERATION, () -> "result"));
+        assertEquals(0, circuitBreakerRegistry.circuitBreaker(RemoteServiceGuard.CATALOG)
+                .getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    void fullBulkheadFailsFast() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread blockingCall = new Thread(() -> remoteServiceGuard.call(RemoteServiceGuard.CATALOG, OPERATION, () -> {
+            started.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        blockingCall.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> remoteServiceGuard.call(RemoteServiceGuard.CATALOG, OPERATION, () -> "result"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+
+        release.countDown();
+        blockingCall.join();
+        assertEquals("result", remoteServiceGuard.call(RemoteServiceGuard.CATALOG, OPERATION, () -> "result"));
+    }
+}
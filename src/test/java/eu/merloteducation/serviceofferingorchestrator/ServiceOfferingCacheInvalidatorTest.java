@@ -0,0 +1,120 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator;
+
+import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingExtension;
+import eu.merloteducation.serviceofferingorchestrator.models.events.ServiceOfferingChangedEvent;
+import eu.merloteducation.serviceofferingorchestrator.repositories.ServiceOfferingExtensionRepository;
+import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingCacheInvalidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "second-level-cache.enabled=true")
+@RecordApplicationEvents
+class ServiceOfferingCacheInvalidatorTest {
+
+    private static final String OFFERING_ID = "urn:uuid:cachedoffering";
+
+    @Autowired
+    private ServiceOfferingExtensionRepository serviceOfferingExtensionRepository;
+
+    @Autowired
+    private ServiceOfferingCacheInvalidator serviceOfferingCacheInvalidator;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BusProperties busProperties;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @BeforeEach
+    public void setUp() {
+        ServiceOfferingExtension extension = new ServiceOfferingExtension();
+        extension.setId(OFFERING_ID);
+        extension.setIssuer("issuer");
+        serviceOfferingExtensionRepository.save(extension);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void extensionIsServedFromCache() {
+        serviceOfferingExtensionRepository.findById(OFFERING_ID);
+        assertTrue(entityManagerFactory.getCache().contains(ServiceOfferingExtension.class, OFFERING_ID));
+
+        serviceOfferingExtensionRepository.findById(OFFERING_ID);
+
+        double hits = meterRegistry.get("hibernate.second.level.cache.requests")
+                .tags("region", ServiceOfferingExtension.CACHE_REGION, "result", "hit")
+                .functionCounter().count();
+        assertTrue(hits > 0);
+    }
+
+    @Test
+    void changedExtensionIsBroadcast() {
+        ServiceOfferingExtension extension = serviceOfferingExtensionRepository.findById(OFFERING_ID).orElseThrow();
+        extension.setIssuer("otherIssuer");
+        serviceOfferingExtensionRepository.save(extension);
+
+        assertTrue(applicationEvents.stream(ServiceOfferingChangedEvent.class)
+                .anyMatch(event -> OFFERING_ID.equals(event.getOfferingId())));
+    }
+
+    @Test
+    void changeOnOtherInstanceEvictsExtension() {
+        serviceOfferingExtensionRepository.findById(OFFERING_ID);
+
+        serviceOfferingCacheInvalidator.serviceOfferingChangedListener(
+                new ServiceOfferingChangedEvent(this, "otherInstance", () -> "**", OFFERING_ID));
+
+        assertFalse(entityManagerFactory.getCache().contains(ServiceOfferingExtension.class, OFFERING_ID));
+    }
+
+    @Test
+    void bulkChangeOnOtherInstanceEvictsAllExtensions() {
+        serviceOfferingExtensionRepository.findById(OFFERING_ID);
+
+        serviceOfferingCacheInvalidator.serviceOfferingChangedListener(
+                new ServiceOfferingChangedEvent(this, "otherInstance", () -> "**", null));
+
+        assertFalse(entityManagerFactory.getCache().contains(ServiceOfferingExtension.class, OFFERING_ID));
+    }
+
+    @Test
+    void changeOnThisInstanceIsIgnored() {
+        serviceOfferingExtensionRepository.findById(OFFERING_ID);
+
+        serviceOfferingCacheInvalidator.serviceOfferingChangedListener(
+                new ServiceOfferingChangedEvent(this, busProperties.getId(), () -> "**", OFFERING_ID));
+
+        assertTrue(entityManagerFactory.getCache().contains(ServiceOfferingExtension.class, OFFERING_ID));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator;
+
+import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingExtension;
+import eu.merloteducation.serviceofferingorchestrator.repositories.ServiceOfferingExtensionRepository;
+import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingExtensionLookup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ServiceOfferingExtensionLookupTest {
+
+    private static final String OFFERING_ID = "urn:uuid:someofferingid";
+
+    private ServiceOfferingExtensionRepository serviceOfferingExtensionRepository;
+
+    private ServiceOfferingExtensionLookup serviceOfferingExtensionLookup;
+
+    @BeforeEach
+    public void setUp() {
+        serviceOfferingExtensionRepository = mock(ServiceOfferingExtensionRepository.class);
+        ServiceOfferingExtension extension = new ServiceOfferingExtension();
+        extension.setId(OFFERING_ID);
+        when(serviceOfferingExtensionRepository.findById(OFFERING_ID)).thenReturn(Optional.of(extension));
+        serviceOfferingExtensionLookup = new ServiceOfferingExtensionLookup(serviceOfferingExtensionRepository);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void lookupIsReusedWithinRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        ServiceOfferingExtension first = serviceOfferingExtensionLookup.findById(OFFERING_ID).orElseThrow();
+        ServiceOfferingExtension second = serviceOfferingExtensionLookup.findById(OFFERING_ID).orElseThrow();
+
+        assertSame(first, second);
+        verify(serviceOfferingExtensionRepository, times(1)).findById(OFFERING_ID);
+    }
+
+    @Test
+    void missingExtensionIsRememberedWithinRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertTrue(serviceOfferingExtensionLookup.findById("urn:uuid:missing").isEmpty());
+        assertTrue(serviceOfferingExtensionLookup.findById("urn:uuid:missing").isEmpty());
+
+        verify(serviceOfferingExtensionRepository, times(1)).findById("urn:uuid:missing");
+    }
+
+    @Test
+    void evictedLookupIsQueriedAgain() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        serviceOfferingExtensionLookup.findById(OFFERING_ID);
+        serviceOfferingExtensionLookup.evict(OFFERING_ID);
+        serviceOfferingExtensionLookup.findById(OFFERING_ID);
+
+        verify(serviceOfferingExtensionRepository, times(2)).findById(OFFERING_ID);
+    }
+
+    @Test
+    void lookupOutsideRequestAlwaysQueries() {
+        serviceOfferingExtensionLookup.findById(OFFERING_ID);
+        serviceOfferingExtensionLookup.findById(OFFERING_ID);
+
+        verify(serviceOfferingExtensionRepository, times(2)).findById(OFFERING_ID);
+    }
+}
@@ -146,4 +146,17 @@ class ServiceOfferingExtensionTest {
         assertThrows(IllegalStateException.class, extension::revoke);
         assertThrows(IllegalStateException.class, extension::delete);
     }
+
+    @Test
+    void checkAssociatedContracts() {
+        ServiceOfferingExtension extension = getInDraftExtension();
+
+        extension.addAssociatedContract("12345");
+        extension.addAssociatedContract("12345");
+        assertEquals(1, extension.getAssociatedContractIds().size());
+
+        assertTrue(extension.removeAssociatedContract("12345"));
+        assertFalse(extension.removeAssociatedContract("12345"));
+        assertTrue(extension.getAssociatedContractIds().isEmpty());
+    }
 }
@@ -47,8 +47,12 @@ import eu.merloteducation.serviceofferingorchestrator.auth.OfferingAuthorityChec
 import eu.merloteducation.serviceofferingorchestrator.controller.ServiceOfferingShapeController;
 import eu.merloteducation.serviceofferingorchestrator.controller.ServiceOfferingsController;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingExtension;
+import eu.merloteducation.serviceofferingorchestrator.repositories.OfferingSubmissionJobRepository;
 import eu.merloteducation.serviceofferingorchestrator.repositories.ServiceOfferingExtensionRepository;
 import eu.merloteducation.serviceofferingorchestrator.security.WebSecurityConfig;
+import eu.merloteducation.serviceofferingorchestrator.service.RemoteServiceGuard;
+import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingExtensionLookup;
+import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingShapeService;
 import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -57,6 +61,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -64,6 +69,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import java.net.URI;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -71,10 +77,11 @@ import static org.mockito.Mockito.lenient;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest({ServiceOfferingShapeController.class, WebSecurityConfig.class,
-        OfferingAuthorityChecker.class})
+        OfferingAuthorityChecker.class, ServiceOfferingExtensionLookup.class, ServiceOfferingShapeService.class})
 @Import({ AuthorityChecker.class, ActiveRoleHeaderHandlerInterceptor.class, JwtAuthConverter.class, InterceptorConfig.class,
         MerlotSecurityConfig.class})
 @AutoConfigureMockMvc()
@@ -83,9 +90,15 @@ class ServiceOfferingShapeControllerTest {
     @MockBean
     private GxfsWizardApiService gxfsWizardApiService;
 
+    @MockBean
+    private RemoteServiceGuard remoteServiceGuard;
+
     @MockBean
     private ServiceOfferingExtensionRepository serviceOfferingExtensionRepository;
 
+    @MockBean
+    private OfferingSubmissionJobRepository offeringSubmissionJobRepository;
+
     @MockBean
     private UserInfoOpaqueTokenIntrospector userInfoOpaqueTokenIntrospector;
 
@@ -103,6 +116,8 @@ class ServiceOfferingShapeControllerTest {
     @BeforeEach
     public void setUp() {
         lenient().when(gxfsWizardApiService.getShapeByName(any(), any())).thenReturn("shape");
+        lenient().when(remoteServiceGuard.call(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
     }
 
 
@@ -241,4 +256,63 @@ class ServiceOfferingShapeControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void getGxOfferingShapeNotModified() throws Exception {
+        String eTag = mvc.perform(MockMvcRequestBuilders
+                        .get("/shapes/gx/serviceoffering")
+                        .header("Authorization", "")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .with(jwt().authorities(
+                                new OrganizationRoleGrantedAuthority(OrganizationRole.ORG_LEG_REP, getParticipantId(10))
+                        )))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(MockMvcRequestBuilders
+                        .get("/shapes/gx/serviceoffering")
+                        .header("Authorization", "")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .with(jwt().authorities(
+                                new OrganizationRoleGrantedAuthority(OrganizationRole.ORG_LEG_REP, getParticipantId(10))
+                        )))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getGxOfferingShapeGzipped() throws Exception {
+        mvc.perform(MockMvcRequestBuilders
+                        .get("/shapes/gx/serviceoffering")
+                        .header("Authorization", "")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .with(jwt().authorities(
+                                new OrganizationRoleGrantedAuthority(OrganizationRole.ORG_LEG_REP, getParticipantId(10))
+                        )))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
+    @Test
+    void getGxOfferingShapeGzipRefused() throws Exception {
+        mvc.perform(MockMvcRequestBuilders
+                        .get("/shapes/gx/serviceoffering")
+                        .header("Authorization", "")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .with(jwt().authorities(
+                                new OrganizationRoleGrantedAuthority(OrganizationRole.ORG_LEG_REP, getParticipantId(10))
+                        )))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
 }
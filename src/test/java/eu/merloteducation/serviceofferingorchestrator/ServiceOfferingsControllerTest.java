@@ -45,9 +45,14 @@ import eu.merloteducation.modelslib.api.serviceoffering.OfferingMetaDto;
 import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingBasicDto;
 import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingDto;
 import eu.merloteducation.serviceofferingorchestrator.controller.ServiceOfferingsController;
+import eu.merloteducation.serviceofferingorchestrator.models.dto.ServiceOfferingCursorPage;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingExtension;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.OfferingSubmissionJob;
+import eu.merloteducation.serviceofferingorchestrator.repositories.OfferingSubmissionJobRepository;
 import eu.merloteducation.serviceofferingorchestrator.repositories.ServiceOfferingExtensionRepository;
 import eu.merloteducation.serviceofferingorchestrator.security.WebSecurityConfig;
+import eu.merloteducation.serviceofferingorchestrator.service.OfferingSubmissionJobService;
+import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingExtensionLookup;
 import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -58,7 +63,9 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import reactor.core.publisher.Mono;
 
 import static eu.merloteducation.serviceofferingorchestrator.SelfDescriptionDemoData.*;
 import static org.mockito.ArgumentMatchers.eq;
@@ -69,13 +76,20 @@ import java.time.Instant;
 import java.util.*;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest({ServiceOfferingsController.class, WebSecurityConfig.class,
-        OfferingAuthorityChecker.class})
+        OfferingAuthorityChecker.class, ServiceOfferingExtensionLookup.class})
 @Import({ AuthorityChecker.class, ActiveRoleHeaderHandlerInterceptor.class, JwtAuthConverter.class, InterceptorConfig.class,
         MerlotSecurityConfig.class})
 @AutoConfigureMockMvc()
@@ -93,6 +107,12 @@ class ServiceOfferingsControllerTest {
     @MockBean
     private ServiceOfferingExtensionRepository serviceOfferingExtensionRepository;
 
+    @MockBean
+    private OfferingSubmissionJobService offeringSubmissionJobService;
+
+    @MockBean
+    private OfferingSubmissionJobRepository offeringSubmissionJobRepository;
+
     @Autowired
     private MockMvc mvc;
 
@@ -160,6 +180,10 @@ class ServiceOfferingsControllerTest {
         lenient().when(serviceOfferingsService
                 .getOrganizationServiceOfferings(any(), any(), any())).thenReturn(null);
 
+        lenient().when(serviceOfferingsService
+                .getAllPublicServiceOfferingsReactive(any(), anyInt(), anyBoolean()))
+                .thenReturn(Mono.just(new ServiceOfferingCursorPage(List.of(), null, null)));
+
         lenient().when(serviceOfferingsService
                 .getServiceOfferingById(any())).thenReturn(serviceOfferingDto);
 
@@ -193,6 +217,36 @@ class ServiceOfferingsControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void scrollPublicOfferingsUnauthorized() throws Exception {
+        MvcResult result = mvc.perform(MockMvcRequestBuilders
+                        .get("/scroll")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty());
+    }
+
+    @Test
+    void scrollOrganizationOfferingsForbidden() throws Exception {
+        mvc.perform(MockMvcRequestBuilders
+                        .get(new URI("/organization/" + getParticipantId(10).replace("#", "%23") + "/scroll"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .with(jwt().authorities(
+                                new OrganizationRoleGrantedAuthority(OrganizationRole.ORG_LEG_REP, getParticipantId(20))
+                        )))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void getOrganizationOfferingsUnauthenticated() throws Exception {
         mvc.perform(MockMvcRequestBuilders
@@ -405,6 +459,155 @@ class ServiceOfferingsControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void addSaasOfferingsBulkForbidden() throws Exception {
+        ServiceOfferingDto dto = new ServiceOfferingDto();
+        dto.setSelfDescription(createValidSaasVp("urn:uuid:TBR", getParticipantId(10)));
+        ServiceOfferingDto otherDto = new ServiceOfferingDto();
+        otherDto.setSelfDescription(createValidSaasVp("urn:uuid:TBR", getParticipantId(20)));
+        mvc.perform(MockMvcRequestBuilders
+                        .post("/serviceoffering/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectAsJsonString(List.of(dto, otherDto)))
+                        .with(csrf())
+                        .with(jwt().authorities(
+                                new OrganizationRoleGrantedAuthority(OrganizationRole.ORG_LEG_REP, getParticipantId(10))
+                        )))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void addSaasOfferingsBulkAllowed() throws Exception {
+        ServiceOfferingDto dto = new ServiceOfferingDto();
+        dto.setSelfDescription(createValidSaasVp("urn:uuid:TBR", getParticipantId(10)));
+        mvc.perform(MockMvcRequestBuilders
+                        .post("/serviceoffering/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectAsJsonString(List.of(dto, dto)))
+                        .with(csrf())
+                        .with(jwt().authorities(
+                                new OrganizationRoleGrantedAuthority(OrganizationRole.ORG_LEG_REP, getParticipantId(10))
+                        )))
+                .andDo(print())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void updateSaasOfferingsBulkForbidden() throws Exception {
+        ServiceOfferingDto dto = new ServiceOfferingDto();
+        dto.setSelfDescription(createValidSaasVp(saasId, getParticipantId(20)));
+        mvc.perform(MockMvcRequestBuilders
+                        .put("/serviceoffering/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectAsJsonString(List.of(dto)))
+                        .with(csrf())
+                        .with(jwt().authorities(
+                                new OrganizationRoleGrantedAuthority(OrganizationRole.ORG_LEG_REP, getParticipantId(10))
+                        )))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void updateSaasOfferingsBulkAllowed() throws Exception {
+        ServiceOfferingDto dto = new ServiceOfferingDto();
+        dto.setSelfDescription(createValidSaasVp(saasId, getParticipantId(10)));
+        mvc.perform(MockMvcRequestBuilders
+                        .put("/serviceoffering/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectAsJsonString(List.of(dto, dto)))
+                        .with(csrf())
+                        .with(jwt().authorities(
+                                new OrganizationRoleGrantedAuthority(OrganizationRole.ORG_LEG_REP, getParticipantId(10))
+                        )))
+                .andDo(print())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void updateSaasOfferingsBulkInvalidElement() throws Exception {
+        ServiceOfferingDto dto = new ServiceOfferingDto();
+        dto.setSelfDescription(createValidSaasVp(saasId, getParticipantId(10)));
+        // lacks the self-description
+        ServiceOfferingDto invalidDto = new ServiceOfferingDto();
+        mvc.perform(MockMvcRequestBuilders
+                        .put("/serviceoffering/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectAsJsonString(List.of(dto, invalidDto)))
+                        .with(csrf())
+                        .with(jwt().authorities(
+                                new OrganizationRoleGrantedAuthority(OrganizationRole.ORG_LEG_REP, getParticipantId(10))
+                        )))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+        verify(serviceOfferingsService, never()).updateServiceOfferings(any(), any());
+    }
+
+    @Test
+    void addSaasOfferingAsyncAccepted() throws Exception {
+        ServiceOfferingDto dto = new ServiceOfferingDto();
+        dto.setSelfDescription(createValidSaasVp("urn:uuid:TBR", getParticipantId(10)));
+        mvc.perform(MockMvcRequestBuilders
+                        .post("/serviceoffering/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectAsJsonString(dto))
+                        .with(csrf())
+                        .with(jwt().authorities(
+                                new OrganizationRoleGrantedAuthority(OrganizationRole.ORG_LEG_REP, getParticipantId(10))
+                        )))
+                .andDo(print())
+                .andExpect(status().isAccepted());
+    }
+
+    @Test
+    void getSubmissionJobForbidden() throws Exception {
+        OfferingSubmissionJob job = new OfferingSubmissionJob();
+        job.setIssuer(getParticipantId(10));
+        lenient().when(offeringSubmissionJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        mvc.perform(MockMvcRequestBuilders
+                        .get("/serviceoffering/jobs/" + job.getId())
+                        .header("Authorization", "")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .with(jwt().authorities(
+                                new OrganizationRoleGrantedAuthority(OrganizationRole.ORG_LEG_REP, getParticipantId(20))
+                        )))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void getSubmissionJobAllowed() throws Exception {
+        OfferingSubmissionJob job = new OfferingSubmissionJob();
+        job.setIssuer(getParticipantId(10));
+        lenient().when(offeringSubmissionJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        mvc.perform(MockMvcRequestBuilders
+                        .get("/serviceoffering/jobs/" + job.getId())
+                        .header("Authorization", "")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .with(jwt().authorities(
+                                new OrganizationRoleGrantedAuthority(OrganizationRole.ORG_LEG_REP, getParticipantId(10))
+                        )))
+                .andDo(print())
+                .andExpect(status().isOk());
+    }
+
     @Test
     void updateSaasOfferingUnauthenticated() throws Exception {
         ExtendedVerifiablePresentation vp = createValidSaasVp(saasId, getParticipantId(10));
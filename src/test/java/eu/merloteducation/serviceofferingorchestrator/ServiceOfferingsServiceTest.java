@@ -48,10 +48,18 @@ import eu.merloteducation.modelslib.api.organization.MerlotParticipantMetaDto;
 import eu.merloteducation.modelslib.api.organization.OrganisationSignerConfigDto;
 import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingBasicDto;
 import eu.merloteducation.modelslib.api.serviceoffering.ServiceOfferingDto;
+import eu.merloteducation.serviceofferingorchestrator.config.CacheConfig;
 import eu.merloteducation.serviceofferingorchestrator.config.MessageQueueConfig;
 import eu.merloteducation.serviceofferingorchestrator.mappers.ServiceOfferingMapper;
+import eu.merloteducation.serviceofferingorchestrator.models.dto.ServiceOfferingBulkResult;
+import eu.merloteducation.serviceofferingorchestrator.models.dto.ServiceOfferingCursorPage;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.CatalogOutboxEntry;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.CatalogOutboxOperation;
+import eu.merloteducation.serviceofferingorchestrator.models.entities.SelfDescriptionSummary;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingExtension;
 import eu.merloteducation.serviceofferingorchestrator.models.entities.ServiceOfferingState;
+import eu.merloteducation.serviceofferingorchestrator.repositories.CatalogOutboxRepository;
+import eu.merloteducation.serviceofferingorchestrator.repositories.SelfDescriptionSummaryRepository;
 import eu.merloteducation.serviceofferingorchestrator.repositories.ServiceOfferingExtensionRepository;
 import eu.merloteducation.serviceofferingorchestrator.service.*;
 import info.weboftrust.ldsignatures.LdProof;
@@ -67,10 +75,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionStatus;
@@ -82,15 +92,22 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import org.springframework.web.server.ResponseStatusException;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static eu.merloteducation.serviceofferingorchestrator.SelfDescriptionDemoData.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @SpringBootTest
 @ExtendWith(MockitoExtension.class)
@@ -121,10 +138,37 @@ class ServiceOfferingsServiceTest {
     @Autowired
     private ServiceOfferingExtensionRepository serviceOfferingExtensionRepository;
 
+    @Autowired
+    private SelfDescriptionSummaryRepository selfDescriptionSummaryRepository;
+
+    @Autowired
+    private CatalogOutboxRepository catalogOutboxRepository;
+
+    @Autowired
+    private CatalogOutboxRelay catalogOutboxRelay;
+
+    @Autowired
+    private RemoteServiceGuard remoteServiceGuard;
+
+    @Autowired
+    private ServiceOfferingExtensionLookup serviceOfferingExtensionLookup;
+
+    @Autowired
+    private SignerLegalNameResolver signerLegalNameResolver;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     private ServiceOfferingExtension saasOffering;
     private ServiceOfferingExtension dataDeliveryOffering;
     private ServiceOfferingExtension cooperationOffering;
 
+    @Autowired
+    private ThreadPoolTaskExecutor remoteCallExecutor;
+
+    @Autowired
+    private ThreadPoolTaskExecutor offeringSubmissionExecutor;
+
     @Autowired
     private PlatformTransactionManager transactionManager;
     private TransactionTemplate transactionTemplate;
@@ -236,9 +280,25 @@ class ServiceOfferingsServiceTest {
         ReflectionTestUtils.setField(serviceOfferingsService, "serviceOfferingMapper", serviceOfferingMapper);
         ReflectionTestUtils.setField(serviceOfferingsService, "objectMapper", objectMapper);
         ReflectionTestUtils.setField(serviceOfferingsService, "serviceOfferingExtensionRepository", serviceOfferingExtensionRepository);
+        ReflectionTestUtils.setField(serviceOfferingsService, "serviceOfferingExtensionLookup", serviceOfferingExtensionLookup);
+        ReflectionTestUtils.setField(serviceOfferingsService, "selfDescriptionSummaryRepository", selfDescriptionSummaryRepository);
         ReflectionTestUtils.setField(serviceOfferingsService, "gxfsCatalogService", gxfsCatalogService);
         ReflectionTestUtils.setField(serviceOfferingsService, "organizationOrchestratorClient", organizationOrchestratorClient);
-        ReflectionTestUtils.setField(serviceOfferingsService, "merlotDomain", MERLOT_DOMAIN);
+        ReflectionTestUtils.setField(serviceOfferingsService, "federationTermsAndConditionsHolder",
+                new FederationTermsAndConditionsHolder(organizationOrchestratorClient, MERLOT_DOMAIN));
+        ReflectionTestUtils.setField(serviceOfferingsService, "catalogOutboxRelay", catalogOutboxRelay);
+        ReflectionTestUtils.setField(serviceOfferingsService, "remoteServiceGuard", remoteServiceGuard);
+        ReflectionTestUtils.setField(serviceOfferingsService, "signerLegalNameResolver", signerLegalNameResolver);
+        ReflectionTestUtils.setField(serviceOfferingsService, "remoteCallExecutor", remoteCallExecutor);
+        ReflectionTestUtils.setField(serviceOfferingsService, "offeringSubmissionExecutor", offeringSubmissionExecutor);
+        ReflectionTestUtils.setField(serviceOfferingsService, "transactionTemplate",
+                new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(serviceOfferingsService, "maxBulkSize", 3);
+        ReflectionTestUtils.setField(serviceOfferingsService, "offeringDetailsTimeout", Duration.ofSeconds(10));
+
+        // start every test with an empty read model so that the catalog is queried
+        selfDescriptionSummaryRepository.deleteAll();
+        catalogOutboxRepository.deleteAll();
 
         saasOffering = new ServiceOfferingExtension();
         saasOffering.setIssuer(getParticipantId(10));
@@ -403,6 +463,23 @@ class ServiceOfferingsServiceTest {
 
         SelfDescriptionMeta response = serviceOfferingsService.addServiceOffering(credentialSubject, getActiveRoleStringForParticipantId(10));
         assertNotNull(response.getId());
+
+        SelfDescriptionSummary summary = selfDescriptionSummaryRepository.findById(response.getSdHash()).orElse(null);
+        assertNotNull(summary);
+        assertEquals("Some offering", summary.getName());
+        assertEquals(getParticipantId(10), summary.getProviderId());
+    }
+
+    @Test
+    void addNewValidServiceOfferingsResolveFederationTnCOnce() throws Exception {
+        String federationId = "did:web:" + MERLOT_DOMAIN + ":participant:df15587a-0760-32b5-9c42-bb7be66e8076";
+
+        serviceOfferingsService.addServiceOffering(createValidSaasOffering("urn:uuid:TBR", getParticipantId(10)),
+                getActiveRoleStringForParticipantId(10));
+        serviceOfferingsService.addServiceOffering(createValidSaasOffering("urn:uuid:TBR", getParticipantId(10)),
+                getActiveRoleStringForParticipantId(10));
+
+        verify(organizationOrchestratorClient, times(1)).getOrganizationDetails(federationId);
     }
 
     @Test
@@ -469,6 +546,70 @@ class ServiceOfferingsServiceTest {
         assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
     }
 
+    @Test
+    void addNewServiceOfferingsInBulk() throws Exception {
+        // offerings are stored concurrently, hence give each of them its own id
+        AtomicInteger createdOfferings = new AtomicInteger();
+        when(gxfsCatalogService.addServiceOffering(any(), any(), any())).thenAnswer(invocation -> {
+            int num = createdOfferings.incrementAndGet();
+            SelfDescriptionMeta response = createOfferingCreatedResponse();
+            response.setId("urn:uuid:bulk-" + num);
+            response.setSdHash("bulk-" + num);
+            return response;
+        });
+
+        List<ServiceOfferingDto> offerings = List.of(
+                createValidSaasOffering("urn:uuid:TBR", getParticipantId(10)),
+                createValidSaasOffering("urn:uuid:TBR", "did:web:" + MERLOT_DOMAIN + ":participant:no-tnc"),
+                createValidSaasOffering("urn:uuid:TBR", getParticipantId(10)));
+
+        List<ServiceOfferingBulkResult> results = serviceOfferingsService
+                .addServiceOfferings(offerings, getActiveRoleStringForParticipantId(10));
+
+        assertEquals(3, results.size());
+        assertEquals(HttpStatus.OK.value(), results.get(0).getStatus());
+        assertNotNull(results.get(0).getResult());
+        assertEquals(HttpStatus.FORBIDDEN.value(), results.get(1).getStatus());
+        assertNull(results.get(1).getResult());
+        assertEquals(HttpStatus.OK.value(), results.get(2).getStatus());
+
+        // the provider details are only fetched once per provider
+        verify(organizationOrchestratorClient, times(1)).getOrganizationDetails(eq(getParticipantId(10)), any());
+    }
+
+    @Test
+    void addNewServiceOfferingsInBulkSaveFailureRollsBack() throws Exception {
+        SelfDescriptionMeta created = createOfferingCreatedResponse();
+        created.setId("urn:uuid:bulk-rollback");
+        created.setSdHash("bulk-rollback");
+        when(gxfsCatalogService.addServiceOffering(any(), any(), any())).thenReturn(created);
+        SelfDescriptionSummaryRepository failingSummaryRepository = mock(SelfDescriptionSummaryRepository.class);
+        when(failingSummaryRepository.save(any())).thenThrow(new IllegalStateException("database down"));
+        ReflectionTestUtils.setField(serviceOfferingsService, "selfDescriptionSummaryRepository",
+                failingSummaryRepository);
+
+        List<ServiceOfferingBulkResult> results = serviceOfferingsService.addServiceOfferings(
+                List.of(createValidSaasOffering("urn:uuid:TBR", getParticipantId(10))),
+                getActiveRoleStringForParticipantId(10));
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), results.get(0).getStatus());
+        // the extension is rolled back together with the summary, while the catalog entry is scheduled for removal
+        assertFalse(serviceOfferingExtensionRepository.existsById("urn:uuid:bulk-rollback"));
+        assertTrue(catalogOutboxRepository.findAll().stream().anyMatch(entry ->
+                entry.getOperation() == CatalogOutboxOperation.DELETE && entry.getSdHash().equals("bulk-rollback")));
+    }
+
+    @Test
+    void addNewServiceOfferingsInBulkTooMany() throws Exception {
+        ServiceOfferingDto offering = createValidSaasOffering("urn:uuid:TBR", getParticipantId(10));
+        List<ServiceOfferingDto> offerings = List.of(offering, offering, offering, offering);
+        String authToken = getActiveRoleStringForParticipantId(10);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> serviceOfferingsService.addServiceOfferings(offerings, authToken));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
     @Test
     void updateExistingWithValidServiceOffering() throws Exception {
         ServiceOfferingDto credentialSubject = createValidSaasOffering(saasOffering.getId(), getParticipantId(10));
@@ -479,19 +620,56 @@ class ServiceOfferingsServiceTest {
     }
 
     @Test
-    void updateExistingWithValidServiceOfferingFail() throws Exception {
+    void updateExistingServiceOfferingsInBulk() throws Exception {
+        List<ServiceOfferingDto> offerings = List.of(
+                createValidSaasOffering(saasOffering.getId(), getParticipantId(10)),
+                createValidSaasOffering("urn:uuid:unknown", getParticipantId(10)));
+
+        List<ServiceOfferingBulkResult> results = serviceOfferingsService.updateServiceOfferings(offerings, "");
+
+        assertEquals(2, results.size());
+        assertEquals(HttpStatus.OK.value(), results.get(0).getStatus());
+        assertNotNull(results.get(0).getResult());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY.value(), results.get(1).getStatus());
+        assertNull(results.get(1).getResult());
+
+        // the provider details are only fetched once per provider
+        verify(organizationOrchestratorClient, times(1)).getOrganizationDetails(eq(getParticipantId(10)), any());
+    }
+
+    @Test
+    void updateExistingWithValidServiceOfferingCatalogCleanupDeferred() throws Exception {
+        String previousSdHash = saasOffering.getCurrentSdHash();
         doThrow(getWebClientResponseException()).when(gxfsCatalogService)
-                .deleteSelfDescriptionByHash(saasOffering.getCurrentSdHash());
+                .deleteSelfDescriptionByHash(previousSdHash);
 
         String id = saasOffering.getId();
 
         ServiceOfferingDto credentialSubject = createValidSaasOffering(id, getParticipantId(10));
 
-        ResponseStatusException exception =
-            assertThrows(ResponseStatusException.class, () -> serviceOfferingsService.updateServiceOffering(credentialSubject, id, ""));
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatusCode());
-        assertEquals("Service offering could not be updated.", exception.getReason());
-
+        // the update succeeds without contacting the catalog for the previous self-description
+        SelfDescriptionMeta response = serviceOfferingsService.updateServiceOffering(credentialSubject, id, "");
+        assertNotNull(response.getId());
+        verify(gxfsCatalogService, times(0)).deleteSelfDescriptionByHash(previousSdHash);
+
+        List<CatalogOutboxEntry> entries = catalogOutboxRepository.findAll();
+        assertEquals(1, entries.size());
+        assertEquals(CatalogOutboxOperation.DELETE, entries.get(0).getOperation());
+        assertEquals(previousSdHash, entries.get(0).getSdHash());
+
+        // a failing catalog call is rescheduled with a backoff
+        catalogOutboxRelay.relayPendingEntries();
+        CatalogOutboxEntry entry = catalogOutboxRepository.findById(entries.get(0).getId()).orElseThrow();
+        assertEquals(1, entry.getAttempts());
+        assertTrue(entry.getNextAttemptDate().isAfter(entries.get(0).getNextAttemptDate()));
+
+        // once the catalog accepts the call, the entry is removed
+        doNothing().when(gxfsCatalogService).deleteSelfDescriptionByHash(previousSdHash);
+        entry.setNextAttemptDate(entries.get(0).getNextAttemptDate());
+        catalogOutboxRepository.save(entry);
+        catalogOutboxRelay.relayPendingEntries();
+        assertTrue(catalogOutboxRepository.findAll().isEmpty());
+        verify(gxfsCatalogService, times(2)).deleteSelfDescriptionByHash(previousSdHash);
     }
 
     @Test
@@ -546,6 +724,45 @@ class ServiceOfferingsServiceTest {
         assertTrue(offerings.getNumberOfElements() > 0 && offerings.getNumberOfElements() <= 9);
     }
 
+    @Test
+    void getAllPublicOfferingsKeepsPageOrder() {
+        // catalog returns the data delivery offering first, but it is the older one
+        dataDeliveryOffering.setCreationDate(cooperationOffering.getCreationDate().minusDays(1));
+        serviceOfferingExtensionRepository.save(dataDeliveryOffering);
+
+        Page<ServiceOfferingBasicDto> offerings = serviceOfferingsService
+                .getAllPublicServiceOfferings(
+                        PageRequest.of(0, 9, Sort.by("creationDate").descending()));
+
+        assertEquals(cooperationOffering.getId(), offerings.getContent().get(0).getId());
+        assertEquals(dataDeliveryOffering.getId(), offerings.getContent().get(1).getId());
+    }
+
+    @Test
+    void getAllPublicOfferingsFetchesEachProviderOnce() {
+        Page<ServiceOfferingBasicDto> offerings = serviceOfferingsService
+                .getAllPublicServiceOfferings(
+                        PageRequest.of(0, 9, Sort.by("creationDate").descending()));
+
+        // both released offerings belong to the same provider
+        assertEquals(2, offerings.getNumberOfElements());
+        verify(organizationOrchestratorClient, times(1)).getOrganizationDetails(getParticipantId(10));
+    }
+
+    @Test
+    void getAllPublicOfferingsFromReadModel() {
+        PageRequest request = PageRequest.of(0, 9, Sort.by("creationDate").descending());
+
+        // first request fills the read model from the catalog
+        Page<ServiceOfferingBasicDto> offerings = serviceOfferingsService.getAllPublicServiceOfferings(request);
+        assertTrue(selfDescriptionSummaryRepository.existsById(dataDeliveryOffering.getCurrentSdHash()));
+
+        // subsequent requests no longer need the catalog
+        doThrow(getWebClientResponseException()).when(gxfsCatalogService).getSelfDescriptionsByHashes(any());
+        Page<ServiceOfferingBasicDto> cachedOfferings = serviceOfferingsService.getAllPublicServiceOfferings(request);
+        assertEquals(offerings.getNumberOfElements(), cachedOfferings.getNumberOfElements());
+    }
+
     @Test
     void getAllPublicOfferingsFail(){
         doThrow(getWebClientResponseException()).when(gxfsCatalogService).getSelfDescriptionsByHashes(any());
@@ -555,6 +772,71 @@ class ServiceOfferingsServiceTest {
             .getAllPublicServiceOfferings(request));
     }
 
+    @Test
+    void scrollPublicOfferings() {
+        ServiceOfferingCursorPage firstPage = serviceOfferingsService
+                .getAllPublicServiceOfferings(null, 1, true);
+        assertEquals(1, firstPage.getContent().size());
+        assertNotNull(firstPage.getNextCursor());
+        assertEquals(2L, firstPage.getTotalElements());
+
+        ServiceOfferingCursorPage secondPage = serviceOfferingsService
+                .getAllPublicServiceOfferings(firstPage.getNextCursor(), 1, false);
+        assertEquals(1, secondPage.getContent().size());
+        assertNull(secondPage.getNextCursor());
+        assertNull(secondPage.getTotalElements());
+        assertNotEquals(firstPage.getContent().get(0).getId(), secondPage.getContent().get(0).getId());
+    }
+
+    @Test
+    void scrollPublicOfferingsInvalidCursor() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> serviceOfferingsService.getAllPublicServiceOfferings("invalid", 1, false));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    @Test
+    void scrollPublicOfferingsReactive() {
+        ServiceOfferingCursorPage expected = serviceOfferingsService
+                .getAllPublicServiceOfferings(null, 1, true);
+        ServiceOfferingCursorPage offerings = serviceOfferingsService
+                .getAllPublicServiceOfferingsReactive(null, 1, true).block();
+
+        assertNotNull(offerings);
+        assertEquals(1, offerings.getContent().size());
+        assertEquals(expected.getContent().get(0).getId(), offerings.getContent().get(0).getId());
+        assertEquals(expected.getNextCursor(), offerings.getNextCursor());
+        assertEquals(2L, offerings.getTotalElements());
+    }
+
+    @Test
+    void scrollPublicOfferingsReactiveInvalidCursor() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> serviceOfferingsService.getAllPublicServiceOfferingsReactive("invalid", 1, false).block());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    @Test
+    void scrollOrganizationOfferingsReactive() {
+        ServiceOfferingCursorPage offerings = serviceOfferingsService
+                .getOrganizationServiceOfferingsReactive(getParticipantId(10), null, null, 9, false).block();
+
+        assertNotNull(offerings);
+        assertFalse(offerings.getContent().isEmpty());
+        assertNull(offerings.getNextCursor());
+        assertNull(offerings.getTotalElements());
+    }
+
+    @Test
+    void scrollOrganizationOfferingsByState() {
+        ServiceOfferingCursorPage offerings = serviceOfferingsService
+                .getOrganizationServiceOfferings(getParticipantId(10), ServiceOfferingState.IN_DRAFT, null, 9, true);
+
+        assertFalse(offerings.getContent().isEmpty());
+        assertNull(offerings.getNextCursor());
+        assertEquals((long) offerings.getContent().size(), offerings.getTotalElements());
+    }
+
     @Test
     void getOrganizationOfferingsNoState() throws Exception {
         Page<ServiceOfferingBasicDto> offerings = serviceOfferingsService
@@ -612,7 +894,7 @@ class ServiceOfferingsServiceTest {
 
     @Test
     @Transactional(propagation = Propagation.NOT_SUPPORTED) // handle transactions manually
-    void transitionServiceOfferingDeletedFail() {
+    void transitionServiceOfferingDeletedCatalogRevocationDeferred() {
         transactionTemplate = new TransactionTemplate(transactionManager);
 
         doThrow(getWebClientResponseException()).when(gxfsCatalogService).revokeSelfDescriptionByHash(any());
@@ -627,30 +909,32 @@ class ServiceOfferingsServiceTest {
             }
         });
 
-        Exception thrownEx = null;
-        try {
-            transactionTemplate.execute(status -> {
-                serviceOfferingsService.transitionServiceOfferingExtension(saasOffering.getId(),
-                    ServiceOfferingState.DELETED);
-
-                return "foo";
-            });
-        } catch (Exception ex) {
-            thrownEx = ex;
-        }
+        transactionTemplate.execute(status -> {
+            serviceOfferingsService.transitionServiceOfferingExtension(saasOffering.getId(),
+                ServiceOfferingState.DELETED);
 
-        assertNotNull(thrownEx);
-        assertEquals(thrownEx.getClass(), ResponseStatusException.class);
+            return "foo";
+        });
 
-        // extension should be in REVOKED state as transition to DELETED state was unsuccessful
+        // the transition is committed, the catalog revocation is left to the outbox relay
         ServiceOfferingExtension result = serviceOfferingExtensionRepository.findById(saasOffering.getId()).orElse(null);
         assertNotNull(result);
-        assertEquals(ServiceOfferingState.REVOKED, result.getState());
+        assertEquals(ServiceOfferingState.DELETED, result.getState());
+        verify(gxfsCatalogService, times(0)).revokeSelfDescriptionByHash(any());
+
+        List<CatalogOutboxEntry> entries = catalogOutboxRepository.findAll();
+        assertEquals(1, entries.size());
+        assertEquals(CatalogOutboxOperation.REVOKE, entries.get(0).getOperation());
+        assertEquals(saasOffering.getCurrentSdHash(), entries.get(0).getSdHash());
+
+        catalogOutboxRelay.relayPendingEntries();
+        verify(gxfsCatalogService).revokeSelfDescriptionByHash(saasOffering.getCurrentSdHash());
+        assertEquals(1, catalogOutboxRepository.findById(entries.get(0).getId()).orElseThrow().getAttempts());
     }
 
     @Test
     @Transactional(propagation = Propagation.NOT_SUPPORTED) // handle transactions manually
-    void transitionServiceOfferingPurgedFail() {
+    void transitionServiceOfferingPurgedCatalogDeletionDeferred() {
         transactionTemplate = new TransactionTemplate(transactionManager);
 
         doThrow(getWebClientResponseException()).when(gxfsCatalogService)
@@ -668,27 +952,26 @@ class ServiceOfferingsServiceTest {
             }
         });
 
-        Exception thrownEx = null;
+        transactionTemplate.execute(status -> {
 
-        try {
-            transactionTemplate.execute(status -> {
+            serviceOfferingsService.transitionServiceOfferingExtension(saasOffering.getId(),
+                ServiceOfferingState.PURGED);
 
-                serviceOfferingsService.transitionServiceOfferingExtension(saasOffering.getId(),
-                    ServiceOfferingState.PURGED);
+            return "foo";
+        });
 
-                return "foo";
-            });
-        } catch (Exception ex) {
-            thrownEx = ex;
-        }
+        // the extension is purged, the catalog deletion is left to the outbox relay
+        assertFalse(serviceOfferingExtensionRepository.existsById(saasOffering.getId()));
+        verify(gxfsCatalogService, times(0)).deleteSelfDescriptionByHash(any());
 
-        assertNotNull(thrownEx);
-        assertEquals(thrownEx.getClass(), ResponseStatusException.class);
+        List<CatalogOutboxEntry> deletions = catalogOutboxRepository.findAll().stream()
+                .filter(entry -> entry.getOperation() == CatalogOutboxOperation.DELETE).toList();
+        assertEquals(1, deletions.size());
+        assertEquals(saasOffering.getCurrentSdHash(), deletions.get(0).getSdHash());
 
-        // extension should still exist and be in DELETED state as purging was unsuccessful
-        ServiceOfferingExtension result = serviceOfferingExtensionRepository.findById(saasOffering.getId()).orElse(null);
-        assertNotNull(result);
-        assertEquals(ServiceOfferingState.DELETED, result.getState());
+        catalogOutboxRelay.relayPendingEntries();
+        verify(gxfsCatalogService).deleteSelfDescriptionByHash(saasOffering.getCurrentSdHash());
+        assertEquals(1, catalogOutboxRepository.findById(deletions.get(0).getId()).orElseThrow().getAttempts());
     }
 
     @Test
@@ -737,6 +1020,19 @@ class ServiceOfferingsServiceTest {
         assertNotNull(model.getMetadata().getSignedBy());
     }
 
+    @Test
+    void getServiceOfferingDetailsSignerLegalNameCached() {
+        cacheManager.getCache(CacheConfig.SIGNER_LEGAL_NAME_CACHE).clear();
+
+        ServiceOfferingDto first = serviceOfferingsService.getServiceOfferingById(saasOffering.getId());
+        ServiceOfferingDto second = serviceOfferingsService.getServiceOfferingById(saasOffering.getId());
+
+        assertEquals("Some Orga", first.getMetadata().getSignedBy());
+        assertEquals("Some Orga", second.getMetadata().getSignedBy());
+        verify(gxfsCatalogService, times(1))
+                .getParticipantLegalNameByUri(eq(MerlotLegalParticipantCredentialSubject.TYPE_CLASS), any());
+    }
+
     @Test
     void getServiceOfferingDetailsDataDeliveryExistent() throws Exception {
         ServiceOfferingDto model = serviceOfferingsService.getServiceOfferingById(dataDeliveryOffering.getId());
@@ -794,6 +1090,46 @@ class ServiceOfferingsServiceTest {
             () -> serviceOfferingsService.getServiceOfferingById(id));
     }
 
+    @Test
+    void getServiceOfferingDetailsTimeout() {
+        ReflectionTestUtils.setField(serviceOfferingsService, "offeringDetailsTimeout", Duration.ofMillis(50));
+        lenient().when(organizationOrchestratorClient.getOrganizationDetails(any())).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return getValidMerlotParticipantDto();
+        });
+
+        String id = cooperationOffering.getId();
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> serviceOfferingsService.getServiceOfferingById(id));
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, exception.getStatusCode());
+    }
+
+    @Test
+    void getServiceOfferingDetailsRemoteCallsSaturated() {
+        // a shut down executor rejects every task just like a saturated one
+        ThreadPoolTaskExecutor saturatedExecutor = new ThreadPoolTaskExecutor();
+        saturatedExecutor.initialize();
+        saturatedExecutor.shutdown();
+        ReflectionTestUtils.setField(serviceOfferingsService, "remoteCallExecutor", saturatedExecutor);
+
+        String id = cooperationOffering.getId();
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> serviceOfferingsService.getServiceOfferingById(id));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+    }
+
+    @Test
+    void getAllPublicServiceOfferingsReactiveRemoteCallsSaturated() {
+        ThreadPoolTaskExecutor saturatedExecutor = new ThreadPoolTaskExecutor();
+        saturatedExecutor.initialize();
+        saturatedExecutor.shutdown();
+        ReflectionTestUtils.setField(serviceOfferingsService, "remoteCallExecutor", saturatedExecutor);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> serviceOfferingsService.getAllPublicServiceOfferingsReactive(null, 5, false).block());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+    }
+
     private WebClientResponseException getWebClientResponseException(){
         byte[] byteArray = {123, 34, 99, 111, 100, 101, 34, 58, 34, 110, 111, 116, 95, 102, 111, 117, 110, 100, 95, 101,
             114, 114, 111, 114, 34, 44, 34, 109, 101, 115, 115, 97, 103, 101, 34, 58, 34, 80, 97, 114,
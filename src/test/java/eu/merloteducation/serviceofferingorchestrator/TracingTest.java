@@ -0,0 +1,98 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureObservability
+class TracingTest {
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+        @Bean
+        public InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private SdkTracerProvider sdkTracerProvider;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    @Qualifier("remoteCallExecutor")
+    private ThreadPoolTaskExecutor remoteCallExecutor;
+
+    @BeforeEach
+    void setUp() {
+        spanExporter.reset();
+    }
+
+    @Test
+    void traceContextIsPropagatedToRemoteCallExecutor() throws Exception {
+        Observation observation = Observation.start("test.operation", observationRegistry);
+        String parentTraceId;
+        String childTraceId;
+        try (Observation.Scope scope = observation.openScope()) {
+            parentTraceId = tracer.currentSpan().context().traceId();
+            childTraceId = remoteCallExecutor.submit(() -> tracer.currentSpan().context().traceId())
+                    .get(5, TimeUnit.SECONDS);
+        } finally {
+            observation.stop();
+        }
+
+        assertEquals(parentTraceId, childTraceId);
+    }
+
+    @Test
+    void finishedObservationsAreExported() {
+        Observation.createNotStarted("test.operation", observationRegistry).observe(() -> { });
+
+        sdkTracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        assertTrue(spanExporter.getFinishedSpanItems().stream()
+                .map(SpanData::getName)
+                .anyMatch("test.operation"::equals));
+    }
+}
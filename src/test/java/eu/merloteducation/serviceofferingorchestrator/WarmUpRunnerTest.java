@@ -0,0 +1,69 @@
+/*
+ *  Copyright 2024 Dataport. All rights reserved. Developed as part of the MERLOT project.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package eu.merloteducation.serviceofferingorchestrator;
+
+import eu.merloteducation.serviceofferingorchestrator.service.FederationTermsAndConditionsHolder;
+import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingShapeService;
+import eu.merloteducation.serviceofferingorchestrator.service.ServiceOfferingsService;
+import eu.merloteducation.serviceofferingorchestrator.service.WarmUpRunner;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.domain.Pageable;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class WarmUpRunnerTest {
+
+    private final ServiceOfferingShapeService serviceOfferingShapeService = mock(ServiceOfferingShapeService.class);
+
+    private final ServiceOfferingsService serviceOfferingsService = mock(ServiceOfferingsService.class);
+
+    private final FederationTermsAndConditionsHolder federationTermsAndConditionsHolder =
+            mock(FederationTermsAndConditionsHolder.class);
+
+    @Test
+    void warmUpDisabled() {
+        WarmUpRunner runner = new WarmUpRunner(serviceOfferingShapeService, serviceOfferingsService,
+                federationTermsAndConditionsHolder, false);
+        runner.run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(serviceOfferingShapeService, serviceOfferingsService, federationTermsAndConditionsHolder);
+    }
+
+    @Test
+    void warmUpEnabled() {
+        WarmUpRunner runner = new WarmUpRunner(serviceOfferingShapeService, serviceOfferingsService,
+                federationTermsAndConditionsHolder, true);
+        runner.run(new DefaultApplicationArguments());
+
+        verify(serviceOfferingShapeService, times(5)).getShape(any(), any());
+        verify(federationTermsAndConditionsHolder).getTermsAndConditions();
+        verify(serviceOfferingsService).getAllPublicServiceOfferings(any(Pageable.class));
+    }
+
+    @Test
+    void warmUpFailureDoesNotPreventStartup() {
+        when(federationTermsAndConditionsHolder.getTermsAndConditions()).thenThrow(IllegalStateException.class);
+        WarmUpRunner runner = new WarmUpRunner(serviceOfferingShapeService, serviceOfferingsService,
+                federationTermsAndConditionsHolder, true);
+
+        assertDoesNotThrow(() -> runner.run(new DefaultApplicationArguments()));
+        verify(serviceOfferingsService).getAllPublicServiceOfferings(any(Pageable.class));
+    }
+}